@@ -3,6 +3,8 @@ package com.yourco.compute.adapters.core;
 import com.yourco.compute.domain.model.Job;
 
 public interface ProviderClient {
+  /** Matches {@code providers.name}; used to route catalog quotes to this client. */
+  default String name() { return getClass().getSimpleName(); }
   ProvisionResult provision(Job job);
   void start(String instanceId);
   void stop(String instanceId);
@@ -2,11 +2,14 @@ package com.yourco.compute.adapters.fake;
 
 import com.yourco.compute.adapters.core.*;
 import com.yourco.compute.domain.model.Job;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import java.util.UUID;
 
 @Component
+@ConditionalOnProperty(prefix = "providers.simulated", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class FakeProviderClient implements ProviderClient {
+  @Override public String name() { return "fake"; }
   @Override public ProvisionResult provision(Job job) { return new ProvisionResult("fake-"+UUID.randomUUID()); }
   @Override public void start(String instanceId) { /* no-op */ }
   @Override public void stop(String instanceId) { /* no-op */ }
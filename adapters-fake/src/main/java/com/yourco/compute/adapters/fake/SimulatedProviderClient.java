@@ -0,0 +1,117 @@
+package com.yourco.compute.adapters.fake;
+
+import com.yourco.compute.adapters.core.*;
+import com.yourco.compute.domain.model.Job;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provider stand-in with realistic failure modes: slow and spiky calls, random errors,
+ * a per-second rate limit, a cap on live instances and usage that grows with run time.
+ * Enabled with {@code providers.simulated.enabled=true}, which also switches off {@link FakeProviderClient}.
+ */
+public class SimulatedProviderClient implements ProviderClient {
+  private static final long NOT_STARTED = -1L;
+
+  private final SimulatedProviderProperties props;
+  private final Map<String, Long> instances = new ConcurrentHashMap<>(); // instanceId -> start nanos
+  private final AtomicInteger live = new AtomicInteger();
+  private long rateWindow;
+  private int callsInWindow;
+
+  public SimulatedProviderClient(SimulatedProviderProperties props){ this.props = props; }
+
+  @Override public String name() { return "simulated"; }
+
+  @Override public ProvisionResult provision(Job job) {
+    admit();
+    if (!reserveInstance()) throw new IllegalStateException("Simulated provider capacity exhausted");
+    try {
+      pause(props.provisionLatency());
+      maybeFail("provision");
+    } catch (RuntimeException e) {
+      live.decrementAndGet();
+      throw e;
+    }
+    String id = "sim-" + UUID.randomUUID();
+    instances.put(id, NOT_STARTED);
+    return new ProvisionResult(id);
+  }
+
+  @Override public void start(String instanceId) {
+    admit();
+    pause(props.callLatency());
+    maybeFail("start");
+    if (instances.replace(instanceId, System.nanoTime()) == null) {
+      throw new IllegalArgumentException("Unknown instance: " + instanceId);
+    }
+  }
+
+  @Override public void stop(String instanceId) {
+    admit();
+    pause(props.callLatency());
+    maybeFail("stop");
+    if (instances.remove(instanceId) != null) live.decrementAndGet();
+  }
+
+  @Override public UsageReport collectUsage(String instanceId) {
+    admit();
+    pause(props.callLatency());
+    maybeFail("usage");
+    Long started = instances.get(instanceId);
+    if (started == null || started == NOT_STARTED) return new UsageReport(0, 0.0);
+    double elapsed = (System.nanoTime() - started) / 1e9;
+    double gpuSeconds = props.gpusPerInstance() * utilisedSeconds(elapsed);
+    return new UsageReport((long) gpuSeconds, gpuSeconds / 3600.0 * props.pricePerGpuHour());
+  }
+
+  private double utilisedSeconds(double elapsed){
+    return switch (props.usageCurve()) {
+      case STEADY -> elapsed;
+      case RAMP -> {
+        double ramp = props.usageRampUp().toMillis() / 1000.0;
+        yield elapsed < ramp ? elapsed * elapsed / (2 * ramp) : elapsed - ramp / 2;
+      }
+    };
+  }
+
+  private boolean reserveInstance(){
+    int max = props.maxInstances();
+    while (true) {
+      int n = live.get();
+      if (max > 0 && n >= max) return false;
+      if (live.compareAndSet(n, n + 1)) return true;
+    }
+  }
+
+  private synchronized void admit(){
+    int limit = props.maxCallsPerSecond();
+    if (limit <= 0) return;
+    long window = System.nanoTime() / 1_000_000_000L;
+    if (window != rateWindow) { rateWindow = window; callsInWindow = 0; }
+    if (++callsInWindow > limit) throw new IllegalStateException("Simulated provider rate limit exceeded");
+  }
+
+  private void maybeFail(String operation){
+    if (ThreadLocalRandom.current().nextDouble() < props.errorRate()) {
+      throw new IllegalStateException("Simulated provider error during " + operation);
+    }
+  }
+
+  private void pause(Duration median){
+    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+    double ms = median.toNanos() / 1e6 * Math.exp(props.latencySigma() * rnd.nextGaussian());
+    if (rnd.nextDouble() < props.spikeRate()) ms += props.spikeLatency().toMillis();
+    try {
+      Thread.sleep((long) ms);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while simulating provider latency", e);
+    }
+  }
+}
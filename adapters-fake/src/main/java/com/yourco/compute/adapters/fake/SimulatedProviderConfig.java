@@ -0,0 +1,16 @@
+package com.yourco.compute.adapters.fake;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "providers.simulated", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SimulatedProviderProperties.class)
+public class SimulatedProviderConfig {
+  @Bean
+  SimulatedProviderClient simulatedProviderClient(SimulatedProviderProperties props){
+    return new SimulatedProviderClient(props);
+  }
+}
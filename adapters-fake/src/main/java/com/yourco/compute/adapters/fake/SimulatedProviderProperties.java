@@ -0,0 +1,35 @@
+package com.yourco.compute.adapters.fake;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Behaviour of {@link SimulatedProviderClient}. Latencies are log-normal around the given median
+ * ({@code latencySigma} is the shape), with an extra {@code spikeLatency} added to {@code spikeRate}
+ * of calls. Zero for {@code maxInstances} / {@code maxCallsPerSecond} means unlimited.
+ */
+@ConfigurationProperties(prefix = "providers.simulated")
+public record SimulatedProviderProperties(
+  @DefaultValue("false") boolean enabled,
+  @DefaultValue("250ms") Duration provisionLatency,
+  @DefaultValue("20ms") Duration callLatency,
+  @DefaultValue("0.5") double latencySigma,
+  @DefaultValue("0.01") double spikeRate,
+  @DefaultValue("2s") Duration spikeLatency,
+  @DefaultValue("0") double errorRate,
+  @DefaultValue("0") int maxInstances,
+  @DefaultValue("0") int maxCallsPerSecond,
+  @DefaultValue("STEADY") UsageCurve usageCurve,
+  @DefaultValue("5m") Duration usageRampUp,
+  @DefaultValue("1") double gpusPerInstance,
+  @DefaultValue("0.55") double pricePerGpuHour
+) {
+  public enum UsageCurve {
+    /** Full utilisation from start. */
+    STEADY,
+    /** Utilisation climbs linearly to full over {@code usageRampUp}, then stays there. */
+    RAMP
+  }
+}
@@ -11,6 +11,8 @@ public class RunPodClient implements ProviderClient {
   private final RestTemplate rest = new RestTemplate();
   private final String base = "http://localhost:18080";
 
+  @Override public String name() { return "runpod"; }
+
   @Override public ProvisionResult provision(Job job) {
     var resp = rest.postForEntity(base+"/provision", job.getId(), String.class);
     return new ProvisionResult(resp.getBody());
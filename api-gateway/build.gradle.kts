@@ -15,10 +15,12 @@ dependencies {
   implementation("org.springframework.boot:spring-boot-starter-validation")
   implementation("org.springframework.boot:spring-boot-starter-data-jpa")
   implementation("org.springframework.boot:spring-boot-starter-amqp")
+  implementation("org.springframework.boot:spring-boot-starter-actuator")
   implementation("org.flywaydb:flyway-core")
   implementation("org.flywaydb:flyway-mysql")
   implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.5.0")
   runtimeOnly("com.mysql:mysql-connector-j")
+  runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
   testImplementation("org.springframework.boot:spring-boot-starter-test")
   testImplementation("org.testcontainers:junit-jupiter:1.20.1")
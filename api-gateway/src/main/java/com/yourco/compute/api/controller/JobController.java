@@ -10,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -58,6 +59,14 @@ public class JobController {
     return ResponseEntity.ok(new JobRes(j.getId(), j.getStatus().name(), j.getProviderId()));
   }
 
+  @GetMapping
+  public ResponseEntity<List<JobRes>> list(@RequestParam long userId){
+    List<JobRes> res = orchestrator.listForUser(userId).stream()
+        .map(j -> new JobRes(j.getId(), j.getStatus().name(), j.getProviderId()))
+        .toList();
+    return ResponseEntity.ok(res);
+  }
+
   @PostMapping("/{id}/io")
   public ResponseEntity<Object> allocateIO(@PathVariable long id){
     StorageService.IOUrls urls = storage.allocateForJob(id);
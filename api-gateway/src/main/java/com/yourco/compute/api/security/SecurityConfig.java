@@ -28,6 +28,8 @@ public class SecurityConfig {
     http.csrf(csrf -> csrf.disable())
         .authorizeHttpRequests(auth -> auth
           .requestMatchers("/swagger-ui.html", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
+          // actuator lives on management.server.port only, which is not exposed publicly
+          .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
           .requestMatchers(HttpMethod.POST, "/v1/jobs/**").hasAnyAuthority("SCOPE_jobs:write")
           .requestMatchers(HttpMethod.GET, "/v1/jobs/**").hasAnyAuthority("SCOPE_jobs:read")
           .anyRequest().authenticated())
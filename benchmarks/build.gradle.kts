@@ -0,0 +1,27 @@
+plugins {
+  id("java")
+  id("me.champeau.jmh") version "0.7.2"
+}
+
+dependencies {
+  jmhImplementation(project(":domain"))
+  jmhImplementation(project(":billing"))
+  jmhImplementation(project(":orchestrator"))
+  jmhImplementation(project(":shared"))
+  jmhImplementation("org.springframework.boot:spring-boot-starter-data-jpa")
+  jmhImplementation("org.springframework.boot:spring-boot-starter-amqp")
+  jmhImplementation("io.micrometer:micrometer-core")
+  jmhRuntimeOnly("com.h2database:h2")
+}
+
+jmh {
+  jmhVersion.set("1.37")
+  warmupIterations.set(3)
+  iterations.set(5)
+  fork.set(1)
+  profilers.add("gc")
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+  // ./gradlew :benchmarks:jmh -Pbench=Selection
+  if (project.hasProperty("bench")) includes.add(project.property("bench") as String)
+}
@@ -0,0 +1,61 @@
+package com.yourco.compute.benchmarks;
+
+import com.yourco.compute.billing.ledger.LedgerService;
+import com.yourco.compute.domain.model.OutboxEvent;
+import com.yourco.compute.domain.repo.OutboxEventRepository;
+import com.yourco.compute.orchestrator.cluster.ShardCoordinator;
+import com.yourco.compute.orchestrator.outbox.OutboxPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Minimal context for component benchmarks: the ledger and outbox beans on top of an
+ * in-memory H2 database, with the broker replaced by a template that drops messages.
+ * Scheduling is off. Shard leases are renewed by the heartbeat thread, and benchmarks also call
+ * {@link ShardCoordinator#heartbeat()} themselves so that they own their shards before measuring.
+ */
+@SpringBootApplication(scanBasePackageClasses = {LedgerService.class, OutboxPublisher.class, ShardCoordinator.class},
+                       exclude = RabbitAutoConfiguration.class)
+@EntityScan(basePackageClasses = {LedgerService.class, OutboxEvent.class})
+@EnableJpaRepositories(basePackageClasses = {LedgerService.class, OutboxEventRepository.class})
+public class BenchmarkApplication {
+
+  @Bean
+  MeterRegistry meterRegistry(){
+    return new SimpleMeterRegistry();
+  }
+
+  /** The connection factory only satisfies RabbitTemplate's startup check; send() never reaches it. */
+  @Bean
+  RabbitTemplate rabbitTemplate(){
+    return new RabbitTemplate(new CachingConnectionFactory()) {
+      @Override
+      public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) { }
+    };
+  }
+
+  static ConfigurableApplicationContext start(){
+    return new SpringApplicationBuilder(BenchmarkApplication.class)
+      .web(WebApplicationType.NONE)
+      .properties(
+        "spring.main.banner-mode=off",
+        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.open-in-view=false",
+        "compute.cluster.lease-ms=120000", // outlasts an iteration even if a renewal is late
+        "logging.level.root=WARN")
+      .run();
+  }
+}
@@ -0,0 +1,40 @@
+package com.yourco.compute.benchmarks;
+
+import com.yourco.compute.orchestrator.dispatch.DispatchProperties;
+import com.yourco.compute.orchestrator.dispatch.FairShareDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** Steady-state dispatch cycle (poll, release the slot, enqueue a replacement) with every tenant backlogged. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FairShareDispatcherBenchmark {
+  @Param({"1", "100", "10000"})
+  public int tenants;
+
+  private FairShareDispatcher dispatcher;
+  private long nextJobId;
+
+  @Setup(Level.Iteration)
+  public void setup(){
+    dispatcher = new FairShareDispatcher(
+      new DispatchProperties(4, 1.0, 0, Map.of(), Map.of(), Duration.ofMinutes(1), 3, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+    nextJobId = 0;
+    for (int round = 0; round < 4; round++) {
+      for (long user = 1; user <= tenants; user++) dispatcher.enqueue(++nextJobId, user);
+    }
+  }
+
+  @Benchmark
+  public FairShareDispatcher.Dispatch dispatchCycle(){
+    FairShareDispatcher.Dispatch d = dispatcher.poll();
+    dispatcher.dispatched(d, false);
+    dispatcher.enqueue(++nextJobId, d.userId());
+    return d;
+  }
+}
@@ -0,0 +1,53 @@
+package com.yourco.compute.benchmarks;
+
+import com.yourco.compute.billing.ledger.LedgerService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LedgerBenchmark {
+  private static final BigDecimal AMOUNT = new BigDecimal("0.600000");
+  private static final UUID REPLAYED = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+  private ConfigurableApplicationContext ctx;
+  private LedgerService ledger;
+  private final AtomicLong jobIds = new AtomicLong();
+
+  @Setup(Level.Trial)
+  public void start(){
+    ctx = BenchmarkApplication.start();
+    ledger = ctx.getBean(LedgerService.class);
+    ledger.hold(REPLAYED, 1L, AMOUNT, 0L);
+  }
+
+  @TearDown(Level.Trial)
+  public void stop(){
+    ctx.close();
+  }
+
+  @Benchmark
+  public void hold(){
+    long jobId = jobIds.incrementAndGet();
+    ledger.hold(UUID.randomUUID(), jobId % 100, AMOUNT, jobId);
+  }
+
+  @Benchmark
+  public void holdReplay(){
+    // idempotency-key hit: lookup only, no postings
+    ledger.hold(REPLAYED, 1L, AMOUNT, 0L);
+  }
+
+  @Benchmark
+  public void holdThenDebit(){
+    long jobId = jobIds.incrementAndGet();
+    ledger.hold(UUID.randomUUID(), jobId % 100, AMOUNT, jobId);
+    ledger.debit(UUID.randomUUID(), jobId % 100, AMOUNT, jobId);
+  }
+}
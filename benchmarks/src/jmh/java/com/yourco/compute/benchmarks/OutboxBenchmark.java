@@ -0,0 +1,69 @@
+package com.yourco.compute.benchmarks;
+
+import com.yourco.compute.domain.model.OutboxEvent;
+import com.yourco.compute.domain.repo.OutboxEventRepository;
+import com.yourco.compute.orchestrator.cluster.ShardCoordinator;
+import com.yourco.compute.orchestrator.outbox.OutboxPublisher;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OutboxBenchmark {
+  /** Matches the page size OutboxPublisher reads per pass. */
+  private static final int BATCH = 50;
+
+  private ConfigurableApplicationContext ctx;
+  private OutboxEventRepository repo;
+  private OutboxPublisher publisher;
+  private ShardCoordinator shards;
+  private long jobId;
+
+  @Setup(Level.Trial)
+  public void start(){
+    ctx = BenchmarkApplication.start();
+    repo = ctx.getBean(OutboxEventRepository.class);
+    publisher = ctx.getBean(OutboxPublisher.class);
+    shards = ctx.getBean(ShardCoordinator.class);
+  }
+
+  /**
+   * Renew the leases before every iteration rather than waiting on the background heartbeat, so this
+   * single node owns every shard from the first measured invocation.
+   */
+  @Setup(Level.Iteration)
+  public void renewLeases(){
+    shards.heartbeat();
+  }
+
+  @TearDown(Level.Trial)
+  public void stop(){
+    ctx.close();
+  }
+
+  // Per-invocation setup is acceptable here: one publish() pass is milliseconds of DB work.
+  @Setup(Level.Invocation)
+  public void seed(){
+    List<OutboxEvent> batch = new ArrayList<>(BATCH);
+    for (int i = 0; i < BATCH; i++) {
+      long id = ++jobId;
+      OutboxEvent ev = new OutboxEvent();
+      ev.setEventType("JobSubmitted");
+      ev.setAggregateType("Job");
+      ev.setAggregateId(id);
+      ev.setPayload("{\"jobId\":" + id + "}");
+      batch.add(ev);
+    }
+    repo.saveAll(batch);
+  }
+
+  @Benchmark
+  public void publishBatch(){
+    publisher.publish();
+  }
+}
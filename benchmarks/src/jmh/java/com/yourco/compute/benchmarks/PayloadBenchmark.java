@@ -0,0 +1,36 @@
+package com.yourco.compute.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.yourco.compute.shared.events.DomainEvents;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PayloadBenchmark {
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final ObjectWriter submittedWriter = mapper.writerFor(DomainEvents.JobSubmitted.class);
+  private long jobId = 1_000_000L;
+
+  @Benchmark
+  public String concat(){
+    long id = jobId++;
+    return "{\"jobId\":" + id + "}";
+  }
+
+  @Benchmark
+  public String jacksonMapper() throws JsonProcessingException {
+    long id = jobId++;
+    return mapper.writeValueAsString(new DomainEvents.JobSubmitted(id, 42L));
+  }
+
+  @Benchmark
+  public String jacksonWriter() throws JsonProcessingException {
+    long id = jobId++;
+    return submittedWriter.writeValueAsString(new DomainEvents.JobSubmitted(id, 42L));
+  }
+}
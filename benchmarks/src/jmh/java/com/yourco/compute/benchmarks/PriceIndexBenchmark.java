@@ -0,0 +1,68 @@
+package com.yourco.compute.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.compute.domain.model.Provider;
+import com.yourco.compute.orchestrator.quotes.PriceIndex;
+import com.yourco.compute.orchestrator.quotes.QuoteService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceIndexBenchmark {
+  private static final String[] REGIONS = {"us-east-1", "us-west-2", "eu-west-1", "ap-northeast-2"};
+  private static final String[] GPUS = {"A100-80G", "H100-80G", "L40S", "RTX-4090"};
+
+  @Param({"10", "100", "1000"})
+  public int providers;
+
+  private final ObjectMapper json = new ObjectMapper();
+  private List<Provider> rows;
+  private PriceIndex index;
+
+  @Setup
+  public void setup(){
+    SplittableRandom rnd = new SplittableRandom(7);
+    rows = new ArrayList<>(providers);
+    for (int i = 0; i < providers; i++) {
+      Provider p = new Provider();
+      p.setName("provider-" + i);
+      p.setRegion(REGIONS[i % REGIONS.length]);
+      p.setStatus("ACTIVE");
+      StringBuilder pricing = new StringBuilder("{");
+      for (int g = 0; g < GPUS.length; g++) {
+        if (g > 0) pricing.append(',');
+        pricing.append('"').append(GPUS[g]).append("\":").append(rnd.nextDouble(0.3, 4.0));
+      }
+      p.setPricingJson(pricing.append('}').toString());
+      p.setMetricsJson("{\"latencyMs\":" + rnd.nextInt(200, 2000) + ",\"reliability\":0.97}");
+      rows.add(p);
+    }
+    index = PriceIndex.build(rows, json);
+  }
+
+  @Benchmark
+  public List<QuoteService.Quote> hit(){
+    return index.quotes("us-east-1", "A100-80G");
+  }
+
+  @Benchmark
+  public List<QuoteService.Quote> miss(){
+    return index.quotes("us-east-1", "B200");
+  }
+
+  @Benchmark
+  public List<QuoteService.Quote> underPriceCap(){
+    return index.quotesUpTo("us-east-1", "A100-80G", 1.5);
+  }
+
+  @Benchmark
+  public PriceIndex rebuild(){
+    return PriceIndex.build(rows, json);
+  }
+}
@@ -0,0 +1,36 @@
+package com.yourco.compute.benchmarks;
+
+import com.yourco.compute.orchestrator.selector.BalancedPolicy;
+import com.yourco.compute.orchestrator.selector.SelectionPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SelectionBenchmark {
+  @Param({"2", "16", "128", "1024"})
+  public int quotes;
+
+  private final SelectionPolicy policy = new BalancedPolicy();
+  private List<SelectionPolicy.Quote> candidates;
+
+  @Setup
+  public void setup(){
+    SplittableRandom rnd = new SplittableRandom(42);
+    candidates = new ArrayList<>(quotes);
+    for (int i = 0; i < quotes; i++) {
+      candidates.add(new SelectionPolicy.Quote("provider-"+i,
+        rnd.nextDouble(0.2, 4.0), rnd.nextDouble(100, 2000), rnd.nextDouble(0.9, 1.0)));
+    }
+  }
+
+  @Benchmark
+  public SelectionPolicy.Quote pick(){
+    return policy.pick(candidates);
+  }
+}
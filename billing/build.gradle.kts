@@ -3,4 +3,5 @@ plugins { id("java") }
 dependencies {
   implementation(project(":domain"))
   implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+  implementation("io.micrometer:micrometer-core")
 }
@@ -1,71 +1,99 @@
 package com.yourco.compute.billing.ledger;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class LedgerService {
   private final LedgerEntryRepository entryRepo;
   private final LedgerPostingRepository postingRepo;
   private final LedgerAccountRepository accountRepo;
+  private final TransactionTemplate tx;
+  private final MeterRegistry meters;
 
-  public LedgerService(LedgerEntryRepository e, LedgerPostingRepository p, LedgerAccountRepository a){
+  public LedgerService(LedgerEntryRepository e, LedgerPostingRepository p, LedgerAccountRepository a,
+                       PlatformTransactionManager txManager, MeterRegistry meters){
     this.entryRepo = e;
     this.postingRepo = p;
     this.accountRepo = a;
+    this.tx = new TransactionTemplate(txManager);
+    this.meters = meters;
+  }
+
+  /**
+   * Runs {@code body} in a transaction (joining the caller's, if any) and times it as
+   * {@code compute.ledger.transactions{kind,outcome}}. The timer wraps the transaction boundary, so a
+   * standalone call includes flush and commit.
+   */
+  private void transact(LedgerEntry.Kind kind, Runnable body){
+    long t0 = System.nanoTime();
+    String outcome = "error";
+    try {
+      tx.executeWithoutResult(status -> body.run());
+      outcome = "success";
+    } finally {
+      meters.timer("compute.ledger.transactions", "kind", kind.name(), "outcome", outcome)
+        .record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+    }
   }
 
-  @Transactional
   public void hold(UUID idemKey, long userId, BigDecimal amount, Long jobId) {
-    if (entryRepo.findByIdempotencyKey(idemKey.toString()).isPresent()) return;
+    transact(LedgerEntry.Kind.HOLD, () -> {
+      if (entryRepo.findByIdempotencyKey(idemKey.toString()).isPresent()) return;
 
-    LedgerEntry entry = new LedgerEntry();
-    entry.setKind(LedgerEntry.Kind.HOLD);
-    entry.setJobId(jobId);
-    entry.setIdempotencyKey(idemKey.toString());
-    entry = entryRepo.save(entry);
+      LedgerEntry entry = new LedgerEntry();
+      entry.setKind(LedgerEntry.Kind.HOLD);
+      entry.setJobId(jobId);
+      entry.setIdempotencyKey(idemKey.toString());
+      entry = entryRepo.save(entry);
 
-    LedgerAccount userBalance = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "balance");
-    LedgerAccount userHold = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "hold");
+      LedgerAccount userBalance = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "balance");
+      LedgerAccount userHold = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "hold");
 
-    post(entry.getId(), userBalance.getId(), LedgerPosting.Side.DEBIT,  amount);
-    post(entry.getId(), userHold.getId(),    LedgerPosting.Side.CREDIT, amount);
+      post(entry.getId(), userBalance.getId(), LedgerPosting.Side.DEBIT,  amount);
+      post(entry.getId(), userHold.getId(),    LedgerPosting.Side.CREDIT, amount);
+    });
   }
 
-  @Transactional
   public void debit(UUID idemKey, long userId, BigDecimal amount, Long jobId) {
-    if (entryRepo.findByIdempotencyKey(idemKey.toString()).isPresent()) return;
+    transact(LedgerEntry.Kind.DEBIT, () -> {
+      if (entryRepo.findByIdempotencyKey(idemKey.toString()).isPresent()) return;
 
-    LedgerEntry entry = new LedgerEntry();
-    entry.setKind(LedgerEntry.Kind.DEBIT);
-    entry.setJobId(jobId);
-    entry.setIdempotencyKey(idemKey.toString());
-    entry = entryRepo.save(entry);
+      LedgerEntry entry = new LedgerEntry();
+      entry.setKind(LedgerEntry.Kind.DEBIT);
+      entry.setJobId(jobId);
+      entry.setIdempotencyKey(idemKey.toString());
+      entry = entryRepo.save(entry);
 
-    LedgerAccount userHold = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "hold");
-    LedgerAccount platformRevenue = getOrCreateNamed(0L, LedgerAccount.Type.REVENUE, "revenue");
+      LedgerAccount userHold = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "hold");
+      LedgerAccount platformRevenue = getOrCreateNamed(0L, LedgerAccount.Type.REVENUE, "revenue");
 
-    post(entry.getId(), userHold.getId(),        LedgerPosting.Side.DEBIT,  amount);
-    post(entry.getId(), platformRevenue.getId(), LedgerPosting.Side.CREDIT, amount);
+      post(entry.getId(), userHold.getId(),        LedgerPosting.Side.DEBIT,  amount);
+      post(entry.getId(), platformRevenue.getId(), LedgerPosting.Side.CREDIT, amount);
+    });
   }
 
-  @Transactional
   public void refund(UUID idemKey, long userId, BigDecimal amount, Long jobId) {
-    if (entryRepo.findByIdempotencyKey(idemKey.toString()).isPresent()) return;
+    transact(LedgerEntry.Kind.REFUND, () -> {
+      if (entryRepo.findByIdempotencyKey(idemKey.toString()).isPresent()) return;
 
-    LedgerEntry entry = new LedgerEntry();
-    entry.setKind(LedgerEntry.Kind.REFUND);
-    entry.setJobId(jobId);
-    entry.setIdempotencyKey(idemKey.toString());
-    entry = entryRepo.save(entry);
+      LedgerEntry entry = new LedgerEntry();
+      entry.setKind(LedgerEntry.Kind.REFUND);
+      entry.setJobId(jobId);
+      entry.setIdempotencyKey(idemKey.toString());
+      entry = entryRepo.save(entry);
 
-    LedgerAccount userHold = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "hold");
-    LedgerAccount userBalance = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "balance");
+      LedgerAccount userHold = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "hold");
+      LedgerAccount userBalance = getOrCreateNamed(userId, LedgerAccount.Type.LIABILITY, "balance");
 
-    post(entry.getId(), userHold.getId(),    LedgerPosting.Side.DEBIT,  amount);
-    post(entry.getId(), userBalance.getId(), LedgerPosting.Side.CREDIT, amount);
+      post(entry.getId(), userHold.getId(),    LedgerPosting.Side.DEBIT,  amount);
+      post(entry.getId(), userBalance.getId(), LedgerPosting.Side.CREDIT, amount);
+    });
   }
 
   private LedgerAccount getOrCreateNamed(long userId, LedgerAccount.Type type, String name){
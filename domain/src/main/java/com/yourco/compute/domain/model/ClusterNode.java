@@ -0,0 +1,17 @@
+package com.yourco.compute.domain.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity @Table(name = "cluster_nodes")
+public class ClusterNode {
+  @Id private String nodeId;
+  private Instant heartbeatAt;
+
+  public ClusterNode() {}
+  public ClusterNode(String nodeId, Instant heartbeatAt){ this.nodeId=nodeId; this.heartbeatAt=heartbeatAt; }
+
+  public String getNodeId(){return nodeId;}
+  public Instant getHeartbeatAt(){return heartbeatAt;}
+  public void setHeartbeatAt(Instant v){this.heartbeatAt=v;}
+}
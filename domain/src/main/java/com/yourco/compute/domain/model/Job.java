@@ -23,6 +23,8 @@ public class Job {
   private Instant createdAt = Instant.now();
   private Instant startedAt;
   private Instant endedAt;
+  private int dispatchAttempts;
+  private Instant claimedAt;
 
   public Long getId() { return id; }
   public Long getUserId() { return userId; }
@@ -42,4 +44,7 @@ public class Job {
   public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
   public Instant getEndedAt() { return endedAt; }
   public void setEndedAt(Instant endedAt) { this.endedAt = endedAt; }
+  public int getDispatchAttempts() { return dispatchAttempts; }
+  public void setDispatchAttempts(int dispatchAttempts) { this.dispatchAttempts = dispatchAttempts; }
+  public Instant getClaimedAt() { return claimedAt; }
 }
@@ -0,0 +1,28 @@
+package com.yourco.compute.domain.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+import java.time.Instant;
+
+/** Always inserted, never updated: {@link #isNew()} lets saveAll skip the per-row select of a merge. */
+@Entity @Table(name = "processed_events")
+public class ProcessedEvent implements Persistable<String> {
+  @Id private String eventId;
+  private String eventType;
+  private Instant processedAt;
+  @Transient private boolean fresh = true;
+
+  public ProcessedEvent() {}
+  public ProcessedEvent(String eventId, String eventType){
+    this.eventId=eventId;
+    this.eventType=eventType;
+    this.processedAt=Instant.now();
+  }
+
+  @PostLoad @PostPersist void stored(){ this.fresh=false; }
+
+  @Override public String getId(){return eventId;}
+  @Override public boolean isNew(){return fresh;}
+  public String getEventType(){return eventType;}
+  public Instant getProcessedAt(){return processedAt;}
+}
@@ -1,6 +1,7 @@
 package com.yourco.compute.domain.model;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 
 @Entity @Table(name = "providers")
 public class Provider {
@@ -16,6 +17,8 @@ public class Provider {
   @Lob @Column(columnDefinition = "json")
   private String metricsJson;
 
+  private Instant updatedAt;
+
   public Long getId(){return id;}
   public String getName(){return name;}
   public void setName(String n){this.name=n;}
@@ -27,4 +30,6 @@ public class Provider {
   public void setPricingJson(String p){this.pricingJson=p;}
   public String getMetricsJson(){return metricsJson;}
   public void setMetricsJson(String m){this.metricsJson=m;}
+  public Instant getUpdatedAt(){return updatedAt;}
+  public void setUpdatedAt(Instant u){this.updatedAt=u;}
 }
@@ -0,0 +1,19 @@
+package com.yourco.compute.domain.model;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+@Entity @Table(name = "work_leases", uniqueConstraints = @UniqueConstraint(columnNames = {"workload", "shard"}))
+public class WorkLease {
+  @Id @GeneratedValue(strategy = GenerationType.IDENTITY) private Long id;
+  private String workload;
+  private int shard;
+  private String owner;
+  private Instant leaseUntil;
+
+  public Long getId(){return id;}
+  public String getWorkload(){return workload;}
+  public int getShard(){return shard;}
+  public String getOwner(){return owner;}
+  public Instant getLeaseUntil(){return leaseUntil;}
+}
@@ -0,0 +1,11 @@
+package com.yourco.compute.domain.repo;
+
+import com.yourco.compute.domain.model.ClusterNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.Instant;
+import java.util.List;
+
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+  List<ClusterNode> findByHeartbeatAtAfterOrderByNodeIdAsc(Instant cutoff);
+  long deleteByHeartbeatAtBefore(Instant cutoff);
+}
@@ -2,10 +2,53 @@ package com.yourco.compute.domain.repo;
 
 import com.yourco.compute.domain.model.Job;
 import com.yourco.compute.domain.model.JobStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface JobRepository extends JpaRepository<Job, Long> {
   List<Job> findByUserIdOrderByCreatedAtDesc(Long userId);
+  List<Job> findTop50ByUserIdOrderByCreatedAtDesc(Long userId);
   List<Job> findByStatus(JobStatus status);
+  List<Job> findByStatusOrderByCreatedAtAsc(JobStatus status);
+
+  /** Locking read: waits for, then sees, any concurrent writer's committed state. */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select j from Job j where j.id = :id")
+  Optional<Job> lockById(@Param("id") long id);
+
+  /** Row-locks in id order, so concurrent batches touching the same jobs queue up instead of deadlocking. */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select j from Job j where j.id in :ids order by j.id")
+  List<Job> lockAllById(@Param("ids") Collection<Long> ids);
+
+  interface UserJobCount {
+    Long getUserId();
+    long getJobs();
+  }
+
+  @Query("select j.userId as userId, count(j) as jobs from Job j where j.status in :statuses group by j.userId")
+  List<UserJobCount> countByUserAndStatusIn(@Param("statuses") Collection<JobStatus> statuses);
+
+  /** Commits a dispatcher's claim on a QUEUED job; 0 means another worker or replica got there first. */
+  @Modifying(clearAutomatically = true)
+  @Query("update Job j set j.status = com.yourco.compute.domain.model.JobStatus.PROVISIONING, j.claimedAt = :at "
+       + "where j.id = :id and j.status = com.yourco.compute.domain.model.JobStatus.QUEUED")
+  int claim(@Param("id") long id, @Param("at") Instant at);
+
+  @Query("select j from Job j where j.status = com.yourco.compute.domain.model.JobStatus.PROVISIONING "
+       + "and j.claimedAt < :before and mod(j.id, :shards) in :owned")
+  List<Job> findClaimedBeforeInShards(@Param("before") Instant before, @Param("shards") int shards,
+                                      @Param("owned") Collection<Integer> owned);
+
+  @Query("select j from Job j where j.status = :status and mod(j.id, :shards) in :owned")
+  List<Job> findByStatusInShards(@Param("status") JobStatus status, @Param("shards") int shards,
+                                 @Param("owned") Collection<Integer> owned);
 }
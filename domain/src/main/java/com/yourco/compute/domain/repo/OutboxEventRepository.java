@@ -1,9 +1,21 @@
 package com.yourco.compute.domain.repo;
 
 import com.yourco.compute.domain.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
   List<OutboxEvent> findTop50ByProcessedAtIsNullOrderByCreatedAtAsc();
+  Optional<OutboxEvent> findFirstByProcessedAtIsNullOrderByCreatedAtAsc();
+  long countByProcessedAtIsNull();
+
+  @Query("select e from OutboxEvent e where e.processedAt is null and mod(e.aggregateId, :shards) in :owned " +
+         "order by e.createdAt asc")
+  List<OutboxEvent> findPendingInShards(@Param("shards") int shards, @Param("owned") Collection<Integer> owned,
+                                        Pageable page);
 }
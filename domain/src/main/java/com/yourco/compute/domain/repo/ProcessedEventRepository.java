@@ -0,0 +1,7 @@
+package com.yourco.compute.domain.repo;
+
+import com.yourco.compute.domain.model.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+}
@@ -0,0 +1,35 @@
+package com.yourco.compute.domain.repo;
+
+import com.yourco.compute.domain.model.WorkLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+
+public interface WorkLeaseRepository extends JpaRepository<WorkLease, Long> {
+  long countByWorkload(String workload);
+
+  @Modifying
+  @Query(value = "INSERT IGNORE INTO work_leases (workload, shard) VALUES (:workload, :shard)", nativeQuery = true)
+  int insertIfAbsent(@Param("workload") String workload, @Param("shard") int shard);
+
+  /** Takes or renews a shard; succeeds only if it is free, expired or already ours. */
+  @Modifying
+  @Query("update WorkLease l set l.owner = :owner, l.leaseUntil = :until " +
+         "where l.workload = :workload and l.shard = :shard " +
+         "and (l.owner = :owner or l.owner is null or l.leaseUntil < :now)")
+  int tryAcquire(@Param("workload") String workload, @Param("shard") int shard, @Param("owner") String owner,
+                 @Param("until") Instant until, @Param("now") Instant now);
+
+  @Modifying
+  @Query("update WorkLease l set l.owner = null, l.leaseUntil = null " +
+         "where l.workload = :workload and l.shard = :shard and l.owner = :owner")
+  int release(@Param("workload") String workload, @Param("shard") int shard, @Param("owner") String owner);
+
+  @Transactional
+  @Modifying
+  @Query("update WorkLease l set l.owner = null, l.leaseUntil = null where l.owner = :owner")
+  int releaseAll(@Param("owner") String owner);
+}
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS cluster_nodes (
+  node_id VARCHAR(128) PRIMARY KEY,
+  heartbeat_at DATETIME NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS work_leases (
+  id BIGINT PRIMARY KEY AUTO_INCREMENT,
+  workload VARCHAR(64) NOT NULL,
+  shard INT NOT NULL,
+  owner VARCHAR(128) NULL,
+  lease_until DATETIME NULL,
+  UNIQUE KEY uk_work_leases_workload_shard (workload, shard)
+);
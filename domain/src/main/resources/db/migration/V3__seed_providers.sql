@@ -0,0 +1,5 @@
+-- pricing_json: GPU type -> on-demand USD per hour
+-- metrics_json: selection priors until live stats are available
+INSERT INTO providers (name, region, status, pricing_json, metrics_json, updated_at) VALUES
+  ('fake',   'us-east-1', 'ACTIVE', '{"A100-80G": 0.50, "H100-80G": 1.10}', '{"latencyMs": 800, "reliability": 0.98}', UTC_TIMESTAMP()),
+  ('runpod', 'us-east-1', 'ACTIVE', '{"A100-80G": 0.62, "H100-80G": 1.25}', '{"latencyMs": 650, "reliability": 0.97}', UTC_TIMESTAMP());
@@ -0,0 +1,6 @@
+-- event ids (outbox id, carried as the AMQP message id) already applied by JobEventConsumer
+CREATE TABLE IF NOT EXISTS processed_events (
+  event_id VARCHAR(64) PRIMARY KEY,
+  event_type VARCHAR(80) NOT NULL,
+  processed_at DATETIME NOT NULL
+);
@@ -0,0 +1,2 @@
+-- failed placements so far; JobOrchestrator marks the job FAILED at compute.dispatch.max-attempts
+ALTER TABLE jobs ADD COLUMN dispatch_attempts INT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- when a dispatcher moved the job to PROVISIONING; the Reconciler releases claims older than compute.dispatch.claim-timeout
+ALTER TABLE jobs ADD COLUMN claimed_at DATETIME NULL;
@@ -0,0 +1,25 @@
+plugins {
+  id("java")
+  application
+}
+
+dependencies {
+  implementation(project(":api-gateway"))
+  implementation(project(":domain"))
+  implementation(project(":orchestrator"))
+  implementation("org.springframework.boot:spring-boot-starter-web")
+  implementation("org.springframework.boot:spring-boot-starter-amqp")
+  implementation("com.fasterxml.jackson.core:jackson-databind")
+  implementation("com.nimbusds:nimbus-jose-jwt:9.37.3")
+  implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+  runtimeOnly("com.h2database:h2")
+}
+
+application {
+  mainClass.set("com.yourco.compute.loadgen.LoadGenerator")
+}
+
+tasks.named<JavaExec>("run") {
+  workingDir = projectDir
+  // ./gradlew :load-generator:run --args="--load.duration=2m --providers.simulated.error-rate=0.05"
+}
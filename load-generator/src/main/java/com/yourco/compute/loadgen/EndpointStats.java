@@ -0,0 +1,42 @@
+package com.yourco.compute.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class EndpointStats {
+  private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+  final String name;
+  private final ConcurrentHistogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+  private final LongAdder errors = new LongAdder();
+
+  EndpointStats(String name){ this.name = name; }
+
+  void record(long startNanos, boolean ok){
+    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+    latencies.recordValue(Math.min(micros, MAX_TRACKABLE_MICROS));
+    if (!ok) errors.increment();
+  }
+
+  void reset(){
+    latencies.reset();
+    errors.reset();
+  }
+
+  Map<String, Object> summary(double seconds){
+    Map<String, Object> m = new LinkedHashMap<>();
+    long count = latencies.getTotalCount();
+    m.put("requests", count);
+    m.put("errors", errors.sum());
+    m.put("throughputPerSec", count / seconds);
+    m.put("p50Ms", latencies.getValueAtPercentile(50.0) / 1000.0);
+    m.put("p99Ms", latencies.getValueAtPercentile(99.0) / 1000.0);
+    m.put("p999Ms", latencies.getValueAtPercentile(99.9) / 1000.0);
+    m.put("maxMs", latencies.getMaxValue() / 1000.0);
+    return m;
+  }
+}
@@ -0,0 +1,251 @@
+package com.yourco.compute.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.yourco.compute.api.ApiGatewayApplication;
+import com.yourco.compute.domain.model.Provider;
+import com.yourco.compute.domain.repo.ProviderRepository;
+import com.yourco.compute.orchestrator.quotes.ProviderCatalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Boots the whole api-gateway in-process on H2 (MySQL mode), with the outbox publishing into
+ * {@link LoadHarnessConfig} and jobs provisioned on the simulated provider, then drives a weighted
+ * submit/get/list mix and reports throughput and p50/p99/p999 per endpoint. Published events are
+ * relayed to the job event consumer. The process exits with 2 if any endpoint breaks
+ * {@code load.max-p99-ms} or {@code load.max-error-rate}, and with 1 if the run itself fails.
+ * Every argument is a Spring property: {@code --load.*} tunes the run, {@code --providers.simulated.*}
+ * the provider.
+ */
+public class LoadGenerator {
+  private static final Logger log = LoggerFactory.getLogger(LoadGenerator.class);
+  private static final String JWT_SECRET = "load-generator-secret-at-least-256-bits-long";
+  private static final String[] HARNESS_DEFAULTS = {
+    "--spring.main.banner-mode=off",
+    "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "--spring.datasource.username=sa",
+    "--spring.datasource.password=",
+    "--spring.flyway.enabled=false",
+    "--spring.jpa.hibernate.ddl-auto=create-drop",
+    "--server.port=0",
+    "--management.server.port=-1",
+    "--security.jwt.secret=" + JWT_SECRET,
+    "--providers.simulated.enabled=true",
+    "--compute.events.listener.auto-startup=false",
+    "--logging.level.root=WARN",
+  };
+  private static final int RECENT_JOBS = 4096;
+
+  private final HttpClient http = HttpClient.newBuilder()
+    .version(HttpClient.Version.HTTP_1_1)
+    .connectTimeout(Duration.ofSeconds(5))
+    .build();
+  private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+  private final LoadOptions opts;
+  private final String baseUrl;
+  private final String token;
+  private final EndpointStats submit = new EndpointStats("submit");
+  private final EndpointStats get = new EndpointStats("get");
+  private final EndpointStats list = new EndpointStats("list");
+  private final AtomicLongArray recentJobs = new AtomicLongArray(RECENT_JOBS);
+  private final AtomicInteger recentCursor = new AtomicInteger();
+
+  LoadGenerator(LoadOptions opts, String baseUrl, String token){
+    this.opts = opts;
+    this.baseUrl = baseUrl;
+    this.token = token;
+  }
+
+  public static void main(String[] args) throws Exception {
+    String[] all = new String[HARNESS_DEFAULTS.length + args.length];
+    System.arraycopy(HARNESS_DEFAULTS, 0, all, 0, HARNESS_DEFAULTS.length);
+    System.arraycopy(args, 0, all, HARNESS_DEFAULTS.length, args.length); // later args win
+
+    ConfigurableApplicationContext ctx = new SpringApplicationBuilder(ApiGatewayApplication.class, LoadHarnessConfig.class)
+      .run(all);
+    int exit = 0;
+    try {
+      LoadOptions opts = Binder.get(ctx.getEnvironment()).bindOrCreate("load", LoadOptions.class);
+      seedCatalog(ctx);
+      int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+      String secret = ctx.getEnvironment().getRequiredProperty("security.jwt.secret");
+      if (!new LoadGenerator(opts, "http://localhost:" + port, token(secret)).run()) exit = 2;
+    } catch (Exception e) {
+      log.error("Load run failed", e);
+      exit = 1;
+    } finally {
+      ctx.close();
+    }
+    System.exit(exit);
+  }
+
+  /** @return whether every endpoint stayed within the configured limits */
+  boolean run() throws Exception {
+    log.info("Warming up for {}", opts.warmup());
+    drive(opts.warmup());
+    submit.reset();
+    get.reset();
+    list.reset();
+
+    log.info("Measuring for {} with {} workers", opts.duration(), opts.concurrency());
+    long published = LoadHarnessConfig.PUBLISHED.sum();
+    long consumed = LoadHarnessConfig.CONSUMED.sum();
+    long t0 = System.nanoTime();
+    drive(opts.duration());
+    double seconds = (System.nanoTime() - t0) / 1e9;
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("timestamp", Instant.now().toString());
+    report.put("options", opts);
+    report.put("seconds", seconds);
+    report.put("outboxPublished", LoadHarnessConfig.PUBLISHED.sum() - published);
+    report.put("eventsConsumed", LoadHarnessConfig.CONSUMED.sum() - consumed);
+    report.put("eventBacklog", LoadHarnessConfig.backlog());
+    Map<String, Object> endpoints = new LinkedHashMap<>();
+    List<String> violations = new ArrayList<>();
+    for (EndpointStats s : List.of(submit, get, list)) {
+      Map<String, Object> summary = s.summary(seconds);
+      endpoints.put(s.name, summary);
+      violations.addAll(violations(s.name, summary));
+    }
+    report.put("endpoints", endpoints);
+    report.put("violations", violations);
+
+    printTable(endpoints);
+    Path out = Path.of(opts.report());
+    if (out.getParent() != null) Files.createDirectories(out.getParent());
+    mapper.writerWithDefaultPrettyPrinter().writeValue(out.toFile(), report);
+    log.info("Report written to {}", out.toAbsolutePath());
+    violations.forEach(v -> log.error("Limit exceeded: {}", v));
+    return violations.isEmpty();
+  }
+
+  private List<String> violations(String endpoint, Map<String, Object> summary){
+    List<String> out = new ArrayList<>();
+    long requests = (long) summary.get("requests");
+    if (requests == 0) return out; // weight 0
+    double errorRate = (long) summary.get("errors") / (double) requests;
+    if (errorRate > opts.maxErrorRate()) {
+      out.add(String.format("%s: error rate %.4f > %.4f", endpoint, errorRate, opts.maxErrorRate()));
+    }
+    double p99 = (double) summary.get("p99Ms");
+    if (opts.maxP99Ms() > 0 && p99 > opts.maxP99Ms()) {
+      out.add(String.format("%s: p99 %.2f ms > %.2f ms", endpoint, p99, opts.maxP99Ms()));
+    }
+    return out;
+  }
+
+  private void drive(Duration length) throws InterruptedException {
+    long deadline = System.nanoTime() + length.toNanos();
+    ExecutorService workers = Executors.newFixedThreadPool(opts.concurrency());
+    for (int i = 0; i < opts.concurrency(); i++) {
+      workers.execute(() -> {
+        while (System.nanoTime() < deadline) step();
+      });
+    }
+    workers.shutdown();
+    if (!workers.awaitTermination(length.toMillis() + 60_000, TimeUnit.MILLISECONDS)) workers.shutdownNow();
+  }
+
+  private void step(){
+    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+    int total = opts.submitWeight() + opts.getWeight() + opts.listWeight();
+    int roll = rnd.nextInt(total);
+    long user = 1 + rnd.nextInt(opts.tenants());
+    if (roll < opts.submitWeight() || recentCursor.get() == 0) {
+      String body = "{\"userId\":" + user + ",\"agentSpec\":\"{}\","
+        + "\"resourceHint\":\"{\\\"gpuType\\\":\\\"A100-80G\\\"}\",\"maxBudget\":50.0}";
+      call(submit, HttpRequest.newBuilder(URI.create(baseUrl + "/v1/jobs"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body)), true);
+    } else if (roll < opts.submitWeight() + opts.getWeight()) {
+      int known = Math.min(recentCursor.get(), RECENT_JOBS);
+      long id = Math.max(1, recentJobs.get(rnd.nextInt(known))); // slot may not be written yet
+      call(get, HttpRequest.newBuilder(URI.create(baseUrl + "/v1/jobs/" + id)).GET(), false);
+    } else {
+      call(list, HttpRequest.newBuilder(URI.create(baseUrl + "/v1/jobs?userId=" + user)).GET(), false);
+    }
+  }
+
+  private void call(EndpointStats stats, HttpRequest.Builder req, boolean rememberJob){
+    HttpRequest request = req.header("Authorization", "Bearer " + token).timeout(Duration.ofSeconds(30)).build();
+    long start = System.nanoTime();
+    try {
+      HttpResponse<String> resp = http.send(request, HttpResponse.BodyHandlers.ofString());
+      boolean ok = resp.statusCode() / 100 == 2;
+      stats.record(start, ok);
+      if (ok && rememberJob) {
+        JsonNode node = mapper.readTree(resp.body());
+        recentJobs.set(recentCursor.getAndIncrement() % RECENT_JOBS, node.path("jobId").asLong());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      stats.record(start, false);
+    } catch (Exception e) {
+      stats.record(start, false);
+    }
+  }
+
+  private static void printTable(Map<String, Object> endpoints){
+    StringBuilder sb = new StringBuilder(String.format("%n%-8s %10s %8s %10s %9s %9s %9s%n",
+      "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+    endpoints.forEach((name, v) -> {
+      @SuppressWarnings("unchecked") Map<String, Object> m = (Map<String, Object>) v;
+      sb.append(String.format("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f%n", name,
+        m.get("requests"), m.get("errors"), m.get("throughputPerSec"), m.get("p50Ms"), m.get("p99Ms"), m.get("p999Ms")));
+    });
+    System.out.print(sb);
+  }
+
+  /** Flyway is off on H2, so register the simulated provider for the region/GPU the mix submits. */
+  private static void seedCatalog(ConfigurableApplicationContext ctx){
+    Provider sim = new Provider();
+    sim.setName("simulated");
+    sim.setRegion("us-east-1");
+    sim.setStatus("ACTIVE");
+    sim.setPricingJson("{\"A100-80G\": 0.55}");
+    sim.setMetricsJson("{\"latencyMs\": 700, \"reliability\": 0.98}");
+    sim.setUpdatedAt(Instant.now());
+    ctx.getBean(ProviderRepository.class).save(sim);
+    ctx.getBean(ProviderCatalog.class).refresh();
+  }
+
+  private static String token(String secret) throws JOSEException {
+    JWTClaimsSet claims = new JWTClaimsSet.Builder()
+      .subject("load-generator")
+      .claim("scope", "jobs:read jobs:write")
+      .expirationTime(Date.from(Instant.now().plus(Duration.ofHours(6))))
+      .build();
+    SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+    jwt.sign(new MACSigner(secret.getBytes(StandardCharsets.UTF_8)));
+    return jwt.serialize();
+  }
+}
@@ -0,0 +1,113 @@
+package com.yourco.compute.loadgen;
+
+import com.rabbitmq.client.Channel;
+import com.yourco.compute.orchestrator.events.JobEventConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local stand-in for RabbitMQ: the outbox publishes into an in-memory queue, and a relay thread hands
+ * it to {@link JobEventConsumer} in batches, as the listener container would. The broker itself
+ * (routing, prefetch, redelivery) is out of scope; acks and nacks go to a channel that ignores them.
+ */
+@Configuration
+public class LoadHarnessConfig {
+  public static final LongAdder PUBLISHED = new LongAdder();
+  public static final LongAdder CONSUMED = new LongAdder();
+  private static final BlockingQueue<Message> EVENTS = new LinkedBlockingQueue<>();
+
+  /** Built on the auto-configured connection factory, which stays unopened because send() never uses it. */
+  @Bean
+  RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory){
+    return new RabbitTemplate(connectionFactory) {
+      @Override
+      public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+        PUBLISHED.increment();
+        EVENTS.add(message);
+      }
+    };
+  }
+
+  @Bean
+  EventRelay eventRelay(ObjectProvider<JobEventConsumer> consumer){
+    return new EventRelay(consumer);
+  }
+
+  /** Events published but not yet handed to the consumer. */
+  public static int backlog(){ return EVENTS.size(); }
+
+  static final class EventRelay implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(EventRelay.class);
+    private static final int BATCH_SIZE = 50; // compute.events.batch-size default
+    private static final Channel IGNORE_ACKS = (Channel) Proxy.newProxyInstance(
+      Channel.class.getClassLoader(), new Class<?>[]{Channel.class}, (proxy, method, args) -> {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+      });
+
+    private final ObjectProvider<JobEventConsumer> consumer;
+    private final AtomicLong deliveryTag = new AtomicLong();
+    private volatile Thread thread;
+
+    EventRelay(ObjectProvider<JobEventConsumer> consumer){ this.consumer = consumer; }
+
+    @Override
+    public void start(){
+      thread = new Thread(this::relay, "event-relay");
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    @Override
+    public void stop(){
+      Thread t = thread;
+      thread = null;
+      if (t != null) t.interrupt();
+    }
+
+    @Override
+    public boolean isRunning(){ return thread != null; }
+
+    private void relay(){
+      JobEventConsumer target = consumer.getObject();
+      List<Message> batch = new ArrayList<>(BATCH_SIZE);
+      while (thread != null) {
+        try {
+          Message first = EVENTS.poll(100, TimeUnit.MILLISECONDS);
+          if (first == null) continue;
+          batch.add(first);
+          EVENTS.drainTo(batch, BATCH_SIZE - 1);
+          for (Message m : batch) m.getMessageProperties().setDeliveryTag(deliveryTag.incrementAndGet());
+          target.onBatch(batch, IGNORE_ACKS);
+          CONSUMED.add(batch.size());
+        } catch (InterruptedException e) {
+          return;
+        } catch (Exception e) {
+          log.warn("Relaying {} job events failed: {}", batch.size(), e.getMessage());
+        } finally {
+          batch.clear();
+        }
+      }
+    }
+  }
+}
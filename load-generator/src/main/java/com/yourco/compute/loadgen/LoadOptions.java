@@ -0,0 +1,22 @@
+package com.yourco.compute.loadgen;
+
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Bound from {@code load.*} properties, so they can be passed as {@code --load.duration=2m}.
+ * {@code maxP99Ms} and {@code maxErrorRate} apply to every endpoint; 0 turns the p99 limit off.
+ */
+public record LoadOptions(
+  @DefaultValue("10s") Duration warmup,
+  @DefaultValue("60s") Duration duration,
+  @DefaultValue("32") int concurrency,
+  @DefaultValue("50") int tenants,
+  @DefaultValue("20") int submitWeight,
+  @DefaultValue("60") int getWeight,
+  @DefaultValue("20") int listWeight,
+  @DefaultValue("build/load-report.json") String report,
+  @DefaultValue("0") double maxP99Ms,
+  @DefaultValue("0.01") double maxErrorRate
+) {}
@@ -10,7 +10,7 @@ dependencies {
 }
 
 dependencies {
-  implementation("com.github.ben-manes.caffeine:caffeine:3.1.8")
+  implementation("io.micrometer:micrometer-core")
   implementation("org.springframework.boot:spring-boot-starter-amqp")
   implementation("org.springframework.boot:spring-boot-starter-data-jpa")
   runtimeOnly("com.mysql:mysql-connector-j")
@@ -0,0 +1,121 @@
+package com.yourco.compute.orchestrator.cluster;
+
+import com.yourco.compute.domain.model.ClusterNode;
+import com.yourco.compute.domain.repo.ClusterNodeRepository;
+import com.yourco.compute.domain.repo.WorkLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Splits each registered background workload into {@code compute.cluster.shards} shards (row id mod N)
+ * and spreads them over the live api-gateway replicas. Every heartbeat, a node records itself in
+ * {@code cluster_nodes}, sorts the nodes seen within one lease period, and claims shard {@code s}
+ * exactly when {@code s % liveNodes == myIndex}. Leases in {@code work_leases} are renewed on each
+ * beat and released once a shard maps elsewhere, so joins and leaves rebalance within a beat or two,
+ * and a dead node's shards free up when its leases lapse.
+ */
+@Component
+public class ShardCoordinator {
+  private static final Logger log = LoggerFactory.getLogger(ShardCoordinator.class);
+
+  private record Ownership(List<Integer> shards, Instant validUntil) {}
+
+  private final WorkLeaseRepository leases;
+  private final ClusterNodeRepository nodes;
+  private final int shards;
+  private final Duration leasePeriod;
+  private final String nodeId;
+  private final Set<String> workloads = ConcurrentHashMap.newKeySet();
+  private final Set<String> provisioned = ConcurrentHashMap.newKeySet();
+  private volatile Map<String, Ownership> owned = Map.of();
+
+  public ShardCoordinator(WorkLeaseRepository leases, ClusterNodeRepository nodes,
+                          @Value("${compute.cluster.shards:16}") int shards,
+                          @Value("${compute.cluster.lease-ms:15000}") long leaseMs,
+                          @Value("${compute.cluster.node-id:}") String nodeId){
+    this.leases = leases;
+    this.nodes = nodes;
+    this.shards = shards;
+    this.leasePeriod = Duration.ofMillis(leaseMs);
+    this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+  }
+
+  public void register(String workload){ workloads.add(workload); }
+
+  public int shardCount(){ return shards; }
+
+  /** Shards of {@code workload} this node may work on right now; empty until the first heartbeat. */
+  public List<Integer> ownedShards(String workload){
+    Ownership o = owned.get(workload);
+    if (o == null || Instant.now().isAfter(o.validUntil())) return List.of();
+    return o.shards();
+  }
+
+  /** Driven by {@link ShardHeartbeat} on its own thread. */
+  @Transactional
+  public void heartbeat(){
+    Instant now = Instant.now();
+    nodes.save(new ClusterNode(nodeId, now));
+    List<String> live = nodes.findByHeartbeatAtAfterOrderByNodeIdAsc(now.minus(leasePeriod)).stream()
+      .map(ClusterNode::getNodeId).toList();
+    int me = live.indexOf(nodeId);
+    if (me < 0) return; // our own heartbeat is not visible yet; keep the previous view
+    Instant until = now.plus(leasePeriod);
+
+    Map<String, Ownership> next = new HashMap<>();
+    for (String workload : workloads) {
+      provision(workload);
+      List<Integer> mine = new ArrayList<>();
+      for (int shard = 0; shard < shards; shard++) {
+        if (shard % live.size() == me) {
+          if (leases.tryAcquire(workload, shard, nodeId, until, now) == 1) mine.add(shard);
+        } else {
+          leases.release(workload, shard, nodeId);
+        }
+      }
+      next.put(workload, new Ownership(List.copyOf(mine), until));
+    }
+    nodes.deleteByHeartbeatAtBefore(now.minus(leasePeriod.multipliedBy(10)));
+    log.debug("Node {} ({} of {} live) owns {}", nodeId, me, live.size(), next);
+    owned = Map.copyOf(next);
+  }
+
+  @PreDestroy
+  public void leave(){
+    owned = Map.of();
+    try {
+      leases.releaseAll(nodeId);
+      nodes.deleteById(nodeId);
+    } catch (RuntimeException e) {
+      log.warn("Could not release leases for {} on shutdown; they will expire: {}", nodeId, e.getMessage());
+    }
+  }
+
+  private void provision(String workload){
+    if (provisioned.contains(workload)) return;
+    if (leases.countByWorkload(workload) < shards) {
+      for (int shard = 0; shard < shards; shard++) leases.insertIfAbsent(workload, shard);
+    }
+    provisioned.add(workload);
+  }
+
+  private static String defaultNodeId(){
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (Exception e) {
+      host = "node";
+    }
+    return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+  }
+}
@@ -0,0 +1,56 @@
+package com.yourco.compute.orchestrator.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Runs {@link ShardCoordinator#heartbeat()} every {@code compute.cluster.heartbeat-ms} on a dedicated
+ * thread. On the shared {@code @Scheduled} pool, a slow outbox pass or reconciler sweep could delay the
+ * beat past the lease, so the node would drop its shards and they would move between nodes.
+ */
+@Component
+public class ShardHeartbeat implements SmartLifecycle {
+  private static final Logger log = LoggerFactory.getLogger(ShardHeartbeat.class);
+
+  private final ShardCoordinator coordinator;
+  private final Duration interval;
+  private ThreadPoolTaskScheduler scheduler;
+
+  public ShardHeartbeat(ShardCoordinator coordinator, @Value("${compute.cluster.heartbeat-ms:5000}") long heartbeatMs){
+    this.coordinator = coordinator;
+    this.interval = Duration.ofMillis(heartbeatMs);
+  }
+
+  @Override
+  public void start(){
+    scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("shard-heartbeat-");
+    scheduler.setDaemon(true);
+    scheduler.initialize();
+    scheduler.scheduleWithFixedDelay(this::beat, interval);
+  }
+
+  @Override
+  public void stop(){
+    if (scheduler != null) scheduler.shutdown();
+    scheduler = null;
+  }
+
+  @Override
+  public boolean isRunning(){ return scheduler != null; }
+
+  private void beat(){
+    try {
+      coordinator.heartbeat();
+    } catch (RuntimeException e) {
+      log.warn("Shard heartbeat failed: {}", e.getMessage(), e);
+    }
+  }
+}
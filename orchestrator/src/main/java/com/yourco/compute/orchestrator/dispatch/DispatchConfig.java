@@ -0,0 +1,9 @@
+package com.yourco.compute.orchestrator.dispatch;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(DispatchProperties.class)
+public class DispatchConfig {
+}
@@ -0,0 +1,42 @@
+package com.yourco.compute.orchestrator.dispatch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Fair-share settings per tenant ({@code userId}). A tenant with weight 2 gets twice the dispatch
+ * share of a weight-1 tenant while both have work queued; {@code maxRunning} caps its jobs in
+ * PROVISIONING/RUNNING (0 = no cap). Per-tenant maps override the defaults. A job whose placement
+ * fails {@code maxAttempts} times is marked FAILED; a claim held longer than {@code claimTimeout}
+ * (its worker or replica died mid-placement) counts as a failed attempt.
+ */
+@ConfigurationProperties(prefix = "compute.dispatch")
+public record DispatchProperties(
+  @DefaultValue("4") int workers,
+  @DefaultValue("1") double defaultWeight,
+  @DefaultValue("0") int defaultMaxRunning,
+  Map<Long, Double> weights,
+  Map<Long, Integer> maxRunning,
+  @DefaultValue("1m") Duration requeueAfter,
+  @DefaultValue("3") int maxAttempts,
+  @DefaultValue("10m") Duration claimTimeout
+) {
+  public DispatchProperties {
+    if (maxAttempts < 1) throw new IllegalArgumentException("compute.dispatch.max-attempts must be at least 1");
+    if (claimTimeout.isNegative() || claimTimeout.isZero()) {
+      throw new IllegalArgumentException("compute.dispatch.claim-timeout must be positive");
+    }
+    if (defaultWeight <= 0) throw new IllegalArgumentException("compute.dispatch.default-weight must be positive");
+    if (weights != null && weights.values().stream().anyMatch(w -> w <= 0)) {
+      throw new IllegalArgumentException("compute.dispatch.weights must be positive");
+    }
+    weights = weights == null ? Map.of() : Map.copyOf(weights);
+    maxRunning = maxRunning == null ? Map.of() : Map.copyOf(maxRunning);
+  }
+
+  public double weightOf(long userId){ return weights.getOrDefault(userId, defaultWeight); }
+  public int maxRunningOf(long userId){ return maxRunning.getOrDefault(userId, defaultMaxRunning); }
+}
@@ -0,0 +1,149 @@
+package com.yourco.compute.orchestrator.dispatch;
+
+import com.yourco.compute.domain.model.Job;
+import com.yourco.compute.domain.model.JobStatus;
+import com.yourco.compute.domain.repo.JobRepository;
+import com.yourco.compute.orchestrator.service.JobOrchestrator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rebuilds {@link FairShareDispatcher} from the jobs table on startup, then runs
+ * {@code compute.dispatch.workers} threads that take the next fair-share job and hand it to
+ * {@link JobOrchestrator#dispatch}. When any tenant has a cap, per-tenant PROVISIONING/RUNNING counts
+ * are re-read from the jobs table every {@code compute.dispatch.running-sync-ms}. That way slots held
+ * by jobs that ended, on this replica or any other, are freed without relying on in-memory bookkeeping.
+ */
+@Component
+public class DispatchWorker implements SmartLifecycle {
+  private static final Logger log = LoggerFactory.getLogger(DispatchWorker.class);
+
+  private final FairShareDispatcher dispatcher;
+  private final JobOrchestrator orchestrator;
+  private final JobRepository jobs;
+  private final DispatchProperties props;
+  private final Timer queueWait;
+  private static final long SHUTDOWN_GRACE_SECONDS = 25; // inside Spring's default 30 s per phase
+  private final Set<Thread> idle = new HashSet<>(); // guarded by itself
+  private ExecutorService pool;
+  private volatile boolean running;
+
+  public DispatchWorker(FairShareDispatcher dispatcher, JobOrchestrator orchestrator, JobRepository jobs,
+                        DispatchProperties props, MeterRegistry meters){
+    this.dispatcher = dispatcher;
+    this.orchestrator = orchestrator;
+    this.jobs = jobs;
+    this.props = props;
+    this.queueWait = meters.timer("compute.dispatch.wait");
+  }
+
+  @Override
+  public void start(){
+    rebuild();
+    AtomicInteger n = new AtomicInteger();
+    pool = Executors.newFixedThreadPool(props.workers(), r -> {
+      Thread t = new Thread(r, "dispatch-" + n.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    });
+    running = true;
+    for (int i = 0; i < props.workers(); i++) pool.execute(this::loop);
+  }
+
+  /**
+   * Stops taking new work and wakes only the workers blocked in {@code take()}. Placements in progress
+   * are left to finish, since interrupting a provider call would fail the job; they are only interrupted
+   * if they outlast the grace period.
+   */
+  @Override
+  public void stop(){
+    running = false;
+    if (pool == null) return;
+    synchronized (idle) {
+      idle.forEach(Thread::interrupt);
+    }
+    pool.shutdown();
+    try {
+      if (!pool.awaitTermination(SHUTDOWN_GRACE_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Dispatch workers still busy after {} s, interrupting", SHUTDOWN_GRACE_SECONDS);
+        pool.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      pool.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning(){ return running; }
+
+  @Scheduled(fixedDelayString = "${compute.dispatch.running-sync-ms:2000}")
+  public void syncRunning(){
+    if (!dispatcher.capped()) return;
+    Map<Long, Integer> running = new HashMap<>();
+    for (JobRepository.UserJobCount c : jobs.countByUserAndStatusIn(List.of(JobStatus.PROVISIONING, JobStatus.RUNNING))) {
+      running.put(c.getUserId(), (int) c.getJobs());
+    }
+    dispatcher.syncRunning(running);
+  }
+
+  /**
+   * Offers every QUEUED job, not only this node's shards: a claim is one committed compare-and-set, so a
+   * job another replica takes first costs this node a single no-op update.
+   */
+  private void rebuild(){
+    syncRunning();
+    List<Job> queued = jobs.findByStatusOrderByCreatedAtAsc(JobStatus.QUEUED);
+    for (Job j : queued) dispatcher.enqueue(j.getId(), j.getUserId());
+    log.info("Dispatcher rebuilt with {} queued jobs", queued.size());
+  }
+
+  private void loop(){
+    Thread me = Thread.currentThread();
+    while (true) {
+      FairShareDispatcher.Dispatch next;
+      synchronized (idle) {
+        if (!running) return;
+        idle.add(me);
+      }
+      try {
+        next = dispatcher.take();
+      } catch (InterruptedException e) {
+        return;
+      } finally {
+        synchronized (idle) {
+          idle.remove(me);
+        }
+      }
+      if (!running) {
+        // taken while stopping: the job is still QUEUED in the DB and is picked up again on restart
+        dispatcher.dispatched(next, false);
+        return;
+      }
+      queueWait.record(next.waitNanos(), TimeUnit.NANOSECONDS);
+      JobStatus result = null;
+      try {
+        result = orchestrator.dispatch(next.jobId());
+      } catch (RuntimeException e) {
+        log.error("Dispatch of job {} failed: {}", next.jobId(), e.getMessage(), e);
+      } finally {
+        dispatcher.dispatched(next, result == JobStatus.RUNNING);
+      }
+    }
+  }
+}
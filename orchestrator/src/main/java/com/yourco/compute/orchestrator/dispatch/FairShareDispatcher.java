@@ -0,0 +1,170 @@
+package com.yourco.compute.orchestrator.dispatch;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory weighted fair queue of QUEUED jobs across tenants. Each tenant keeps its own FIFO; tenants
+ * with work and a free concurrency slot sit in a heap ordered by virtual finish tag. Serving a tenant
+ * advances its tag by {@code 1/weight}, and a tenant that (re)joins starts at the current virtual time,
+ * so idle time earns no credit and a burst from one tenant cannot push back anyone else's next job.
+ * Enqueue, dequeue and slot release are O(log active tenants).
+ * <p>
+ * A tenant's occupied slots are its PROVISIONING/RUNNING jobs as last counted in the database (see
+ * {@link #syncRunning}) plus the dispatches this node has in flight. Completions on any replica, or
+ * any other path that ends a job, therefore free the slot at the next sync. Between syncs the cap is
+ * approximate across replicas.
+ * <p>
+ * A job is known here from {@link #enqueue} until its dispatch ends in {@link #dispatched}, so the
+ * Reconciler's re-offers and a replayed event cannot hand a job in flight to a second worker.
+ */
+@Component
+public class FairShareDispatcher {
+  public record Dispatch(long jobId, long userId, long waitNanos) {}
+
+  private static final class Tenant {
+    final long userId;
+    final double weight;
+    final int maxRunning;
+    final ArrayDeque<long[]> queue = new ArrayDeque<>(); // {jobId, enqueuedAtNanos}
+    int running;   // PROVISIONING/RUNNING in the DB at the last sync, plus local starts since
+    int inFlight;  // taken from this queue, dispatch not yet returned
+    double lastFinish;
+    double tag;
+    boolean ready;
+
+    Tenant(long userId, double weight, int maxRunning){
+      this.userId = userId;
+      this.weight = weight;
+      this.maxRunning = maxRunning;
+    }
+  }
+
+  private final DispatchProperties props;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition readyNotEmpty = lock.newCondition();
+  private final Map<Long, Tenant> tenants = new HashMap<>();
+  private final PriorityQueue<Tenant> ready =
+    new PriorityQueue<>(Comparator.<Tenant>comparingDouble(t -> t.tag).thenComparingLong(t -> t.userId));
+  private final Set<Long> known = new HashSet<>(); // queued or in flight
+  private Map<Long, Integer> lastRunning = Map.of();
+  private final AtomicInteger queuedCount = new AtomicInteger();
+  private double virtualTime;
+
+  public FairShareDispatcher(DispatchProperties props, MeterRegistry meters){
+    this.props = props;
+    Gauge.builder("compute.dispatch.queued", queuedCount, AtomicInteger::get).register(meters);
+  }
+
+  /** @return false if the job is already waiting here or being dispatched */
+  public boolean enqueue(long jobId, long userId){
+    lock.lock();
+    try {
+      if (!known.add(jobId)) return false;
+      queuedCount.incrementAndGet();
+      Tenant t = tenants.computeIfAbsent(userId, this::newTenant);
+      t.queue.addLast(new long[]{jobId, System.nanoTime()});
+      schedule(t);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Blocks until some tenant has a job it is allowed to start. */
+  public Dispatch take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (ready.isEmpty()) readyNotEmpty.await();
+      return next();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public Dispatch poll(){
+    lock.lock();
+    try {
+      return ready.isEmpty() ? null : next();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Ends an in-flight dispatch taken from {@link #take}/{@link #poll}. A job that {@code started} keeps
+   * its slot until a later {@link #syncRunning} no longer counts it.
+   */
+  public void dispatched(Dispatch d, boolean started){
+    lock.lock();
+    try {
+      known.remove(d.jobId());
+      Tenant t = tenants.get(d.userId());
+      if (t == null) return;
+      if (t.inFlight > 0) t.inFlight--;
+      if (started) t.running++;
+      release(t);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Replaces every tenant's running count with the PROVISIONING/RUNNING counts just read from the DB. */
+  public void syncRunning(Map<Long, Integer> running){
+    lock.lock();
+    try {
+      lastRunning = Map.copyOf(running);
+      for (Tenant t : List.copyOf(tenants.values())) {
+        t.running = running.getOrDefault(t.userId, 0);
+        release(t);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Whether any tenant has a cap, i.e. whether running counts need syncing at all. */
+  public boolean capped(){
+    return props.defaultMaxRunning() > 0 || !props.maxRunning().isEmpty();
+  }
+
+  private Dispatch next(){
+    Tenant t = ready.poll();
+    t.ready = false;
+    long[] job = t.queue.pollFirst();
+    queuedCount.decrementAndGet();
+    virtualTime = t.tag;
+    t.lastFinish = t.tag;
+    t.inFlight++;
+    schedule(t);
+    return new Dispatch(job[0], t.userId, System.nanoTime() - job[1]);
+  }
+
+  /** Puts the tenant in the ready heap if it has work and a free slot; returns whether it is ready. */
+  private boolean schedule(Tenant t){
+    if (t.ready) return true;
+    if (t.queue.isEmpty() || (t.maxRunning > 0 && t.running + t.inFlight >= t.maxRunning)) return false;
+    t.tag = Math.max(virtualTime, t.lastFinish) + 1.0 / t.weight;
+    t.ready = true;
+    ready.add(t);
+    readyNotEmpty.signal();
+    return true;
+  }
+
+  /** Reschedules a tenant whose slots may have freed up, and forgets it once it has nothing left. */
+  private void release(Tenant t){
+    if (!schedule(t) && t.queue.isEmpty() && t.running == 0 && t.inFlight == 0) tenants.remove(t.userId);
+  }
+
+  private Tenant newTenant(long userId){
+    Tenant t = new Tenant(userId, props.weightOf(userId), props.maxRunningOf(userId));
+    t.running = lastRunning.getOrDefault(userId, 0);
+    return t;
+  }
+}
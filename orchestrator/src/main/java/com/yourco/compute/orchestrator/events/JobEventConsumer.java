@@ -0,0 +1,223 @@
+package com.yourco.compute.orchestrator.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import com.yourco.compute.billing.ledger.LedgerService;
+import com.yourco.compute.domain.model.Job;
+import com.yourco.compute.domain.model.JobStatus;
+import com.yourco.compute.domain.model.ProcessedEvent;
+import com.yourco.compute.domain.repo.JobRepository;
+import com.yourco.compute.domain.repo.ProcessedEventRepository;
+import com.yourco.compute.shared.events.DomainEvents;
+import com.yourco.compute.shared.messaging.RabbitConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Job state machine driven by {@code compute.jobs.v2}. Each delivery batch is applied in one transaction:
+ * event ids already in {@code processed_events} are dropped, referenced jobs are loaded (row-locked in
+ * id order only where the batch changes their status), transitions run in delivery order, changed jobs
+ * and the new event ids are written, and the batch is acked with a single multiple-ack.
+ * <p>
+ * If the batch transaction fails, its messages are applied again one at a time, each in its own
+ * transaction and acked on its own. Only a message that still fails is nacked back to the queue. The
+ * broker dead-letters it to {@code compute.jobs.v2.dlq} once it passes the queue's delivery limit, so one
+ * bad event cannot hold up or retire the good ones delivered with it.
+ * <p>
+ * {@code JobSubmitted} is only recorded. Submission hands the job to the dispatcher after commit, and
+ * the Reconciler re-offers QUEUED jobs whose enqueue was lost, in the shards it owns.
+ */
+@Component
+public class JobEventConsumer {
+  private static final Logger log = LoggerFactory.getLogger(JobEventConsumer.class);
+  private static final Set<String> TYPES = Set.of("JobSubmitted", "JobStarted", "JobCompleted", "UsageReported");
+
+  private final JobRepository jobs;
+  private final ProcessedEventRepository processed;
+  private final LedgerService ledger;
+  private final TransactionTemplate tx;
+  private final MeterRegistry meters;
+  private final Timer batchTimer;
+  private final DistributionSummary batchSize;
+  private final ObjectMapper json = new ObjectMapper();
+
+  private record Event(String id, String type, long jobId, Object body) {}
+
+  public JobEventConsumer(JobRepository jobs, ProcessedEventRepository processed, LedgerService ledger,
+                          PlatformTransactionManager txManager, MeterRegistry meters){
+    this.jobs = jobs;
+    this.processed = processed;
+    this.ledger = ledger;
+    this.tx = new TransactionTemplate(txManager);
+    this.meters = meters;
+    this.batchTimer = meters.timer("compute.events.batch");
+    this.batchSize = DistributionSummary.builder("compute.events.batch.size").register(meters);
+  }
+
+  @RabbitListener(id = "job-events", queues = RabbitConfig.JOB_QUEUE, containerFactory = RabbitConfig.JOB_EVENTS_FACTORY)
+  public void onBatch(List<Message> batch, Channel channel) throws IOException {
+    if (batch.isEmpty()) return;
+    long lastTag = batch.get(batch.size() - 1).getMessageProperties().getDeliveryTag();
+    batchSize.record(batch.size());
+
+    Timer.Sample sample = Timer.start(meters);
+    try {
+      tx.executeWithoutResult(status -> apply(batch));
+    } catch (RuntimeException e) {
+      log.warn("Job event batch of {} failed, applying one at a time: {}", batch.size(), e.getMessage());
+      applyEach(batch, channel);
+      return;
+    } finally {
+      sample.stop(batchTimer);
+    }
+    channel.basicAck(lastTag, true);
+  }
+
+  private void applyEach(List<Message> batch, Channel channel) throws IOException {
+    for (Message m : batch) {
+      long tag = m.getMessageProperties().getDeliveryTag();
+      try {
+        tx.executeWithoutResult(status -> apply(List.of(m)));
+      } catch (RuntimeException e) {
+        count(m.getMessageProperties().getType(), "failed");
+        log.error("Job event {} failed, returning it to the queue: {}",
+            m.getMessageProperties().getMessageId(), e.getMessage(), e);
+        channel.basicNack(tag, false, true);
+        continue;
+      }
+      channel.basicAck(tag, false);
+    }
+  }
+
+  private void apply(List<Message> batch){
+    Map<String, Message> fresh = new LinkedHashMap<>();
+    for (Message m : batch) {
+      String id = m.getMessageProperties().getMessageId();
+      if (id == null) {
+        count(m.getMessageProperties().getType(), "rejected");
+        log.warn("Dropping job event without a message id: {}", new String(m.getBody(), StandardCharsets.UTF_8));
+      } else if (fresh.putIfAbsent(id, m) != null) {
+        count(m.getMessageProperties().getType(), "duplicate");
+      }
+    }
+    for (ProcessedEvent done : processed.findAllById(fresh.keySet())) {
+      fresh.remove(done.getId());
+      count(done.getEventType(), "duplicate");
+    }
+    if (fresh.isEmpty()) return;
+
+    List<Event> events = new ArrayList<>(fresh.size());
+    fresh.forEach((id, m) -> {
+      Event ev = parse(id, m);
+      if (ev == null) count(m.getMessageProperties().getType(), "rejected");
+      else events.add(ev);
+    });
+    // only jobs whose row changes are locked; JobSubmitted and UsageReported just read the job
+    Set<Long> changing = events.stream().filter(JobEventConsumer::changesJob).map(Event::jobId).collect(Collectors.toSet());
+    Set<Long> readOnly = events.stream().map(Event::jobId).filter(id -> !changing.contains(id)).collect(Collectors.toSet());
+    Map<Long, Job> byId = new HashMap<>();
+    if (!changing.isEmpty()) jobs.lockAllById(changing).forEach(j -> byId.put(j.getId(), j));
+    if (!readOnly.isEmpty()) jobs.findAllById(readOnly).forEach(j -> byId.put(j.getId(), j));
+
+    Set<Job> changed = new LinkedHashSet<>();
+    for (Event ev : events) {
+      Job job = byId.get(ev.jobId());
+      boolean applied = job != null && transition(ev, job);
+      if (applied && !(ev.body() instanceof DomainEvents.UsageReported)) changed.add(job);
+      count(ev.type(), applied ? "applied" : "skipped");
+    }
+    jobs.saveAll(changed);
+    processed.saveAll(fresh.entrySet().stream()
+        .map(e -> new ProcessedEvent(e.getKey(), typeOf(e.getValue())))
+        .toList());
+  }
+
+  /** @return whether the event was acted on; false when the job is already past that point */
+  private boolean transition(Event ev, Job job){
+    JobStatus s = job.getStatus();
+    long userId = job.getUserId();
+    if (ev.body() instanceof DomainEvents.JobSubmitted) {
+      // re-enqueuing here could hand a job to a second worker while the first is still placing it
+      return false;
+    }
+    if (ev.body() instanceof DomainEvents.JobStarted e) {
+      if (s != JobStatus.PROVISIONING) return false;
+      job.setStatus(JobStatus.RUNNING);
+      if (job.getStartedAt() == null) job.setStartedAt(Instant.now());
+      if (job.getProviderId() == null && e.providerId() > 0) job.setProviderId(e.providerId());
+      return true;
+    }
+    if (ev.body() instanceof DomainEvents.JobCompleted e) {
+      if (s == JobStatus.SUCCEEDED || s == JobStatus.FAILED || s == JobStatus.CANCELLED) return false;
+      job.setStatus(e.success() ? JobStatus.SUCCEEDED : JobStatus.FAILED);
+      job.setEndedAt(Instant.now());
+      return true;
+    }
+    if (ev.body() instanceof DomainEvents.UsageReported e) {
+      if (e.costEst() <= 0) return false;
+      UUID key = UUID.nameUUIDFromBytes(("usage:" + ev.id()).getBytes(StandardCharsets.UTF_8));
+      ledger.debit(key, userId, BigDecimal.valueOf(e.costEst()), job.getId());
+      return true;
+    }
+    throw new IllegalStateException("Unhandled event " + ev.type());
+  }
+
+  private Event parse(String id, Message m){
+    String type = typeOf(m);
+    byte[] body = m.getBody();
+    try {
+      switch (type) {
+        case "JobSubmitted": {
+          var e = json.readValue(body, DomainEvents.JobSubmitted.class);
+          return new Event(id, type, e.jobId(), e);
+        }
+        case "JobStarted": {
+          var e = json.readValue(body, DomainEvents.JobStarted.class);
+          return new Event(id, type, e.jobId(), e);
+        }
+        case "JobCompleted": {
+          var e = json.readValue(body, DomainEvents.JobCompleted.class);
+          return new Event(id, type, e.jobId(), e);
+        }
+        case "UsageReported": {
+          var e = json.readValue(body, DomainEvents.UsageReported.class);
+          return new Event(id, type, e.jobId(), e);
+        }
+        default:
+          log.warn("Dropping job event {} of unknown type {}", id, type);
+          return null;
+      }
+    } catch (IOException e) {
+      log.warn("Dropping unreadable {} event {}: {}", type, id, e.getMessage());
+      return null;
+    }
+  }
+
+  private static boolean changesJob(Event ev){
+    return ev.body() instanceof DomainEvents.JobStarted || ev.body() instanceof DomainEvents.JobCompleted;
+  }
+
+  private static String typeOf(Message m){
+    String type = m.getMessageProperties().getType();
+    return type == null ? "unknown" : type;
+  }
+
+  private void count(String type, String result){
+    meters.counter("compute.events.consumed", "type", TYPES.contains(type) ? type : "unknown", "result", result).increment();
+  }
+}
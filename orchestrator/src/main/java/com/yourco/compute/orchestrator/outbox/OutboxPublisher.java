@@ -2,35 +2,83 @@ package com.yourco.compute.orchestrator.outbox;
 
 import com.yourco.compute.domain.model.OutboxEvent;
 import com.yourco.compute.domain.repo.OutboxEventRepository;
+import com.yourco.compute.orchestrator.cluster.ShardCoordinator;
+import com.yourco.compute.shared.messaging.RabbitConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component
 public class OutboxPublisher {
   private static final Logger log = LoggerFactory.getLogger(OutboxPublisher.class);
+  static final String WORKLOAD = "outbox";
+  private static final PageRequest BATCH = PageRequest.of(0, 50);
   private final OutboxEventRepository repo;
   private final RabbitTemplate rabbit;
+  private final ShardCoordinator shards;
+  private final Counter published;
+  private final Counter failed;
+  private final AtomicLong backlog = new AtomicLong();
+  private final AtomicLong oldestPendingMillis = new AtomicLong(); // 0 when nothing is pending
 
-  public OutboxPublisher(OutboxEventRepository repo, RabbitTemplate rabbit){ this.repo=repo; this.rabbit=rabbit; }
+  public OutboxPublisher(OutboxEventRepository repo, RabbitTemplate rabbit, ShardCoordinator shards, MeterRegistry meters){
+    this.repo=repo;
+    this.rabbit=rabbit;
+    this.shards=shards;
+    shards.register(WORKLOAD);
+    this.published = meters.counter("compute.outbox.published", "outcome", "success");
+    this.failed = meters.counter("compute.outbox.published", "outcome", "error");
+    Gauge.builder("compute.outbox.backlog", backlog, AtomicLong::get).register(meters);
+    Gauge.builder("compute.outbox.oldest.age", oldestPendingMillis,
+        v -> v.get() == 0 ? 0 : (System.currentTimeMillis() - v.get()) / 1000.0)
+      .baseUnit("seconds")
+      .register(meters);
+  }
 
   @Scheduled(fixedDelay = 2000)
   @Transactional
   public void publish() {
-    var events = repo.findTop50ByProcessedAtIsNullOrderByCreatedAtAsc();
+    List<Integer> owned = shards.ownedShards(WORKLOAD);
+    var events = owned.isEmpty() ? List.<OutboxEvent>of()
+        : repo.findPendingInShards(shards.shardCount(), owned, BATCH);
     for (OutboxEvent ev : events) {
       try {
-        rabbit.convertAndSend("compute.events", "job."+ev.getEventType().toLowerCase(), ev.getPayload());
+        // the outbox id travels as the message id so consumers can drop redeliveries
+        rabbit.convertAndSend(RabbitConfig.EXCHANGE, "job."+ev.getEventType().toLowerCase(), ev.getPayload(), m -> {
+          m.getMessageProperties().setMessageId(String.valueOf(ev.getId()));
+          m.getMessageProperties().setType(ev.getEventType());
+          m.getMessageProperties().setContentType(MessageProperties.CONTENT_TYPE_JSON);
+          return m;
+        });
         ev.setProcessedAt(Instant.now());
         repo.save(ev);
+        published.increment();
       } catch (Exception e) {
+        failed.increment();
         log.error("Failed to publish event {}: {}", ev.getId(), e.getMessage(), e);
       }
     }
+    // the backlog gauges cover the whole table, so only the owner of shard 0 pays for the scan;
+    // every other replica reports 0 and a max across replicas gives the cluster-wide value
+    if (owned.contains(0)) {
+      backlog.set(repo.countByProcessedAtIsNull());
+      oldestPendingMillis.set(repo.findFirstByProcessedAtIsNullOrderByCreatedAtAsc()
+          .map(ev -> ev.getCreatedAt().toEpochMilli()).orElse(0L));
+    } else {
+      backlog.set(0);
+      oldestPendingMillis.set(0);
+    }
   }
 }
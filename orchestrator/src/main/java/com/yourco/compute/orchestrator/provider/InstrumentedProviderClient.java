@@ -0,0 +1,52 @@
+package com.yourco.compute.orchestrator.provider;
+
+import com.yourco.compute.adapters.core.ProviderClient;
+import com.yourco.compute.adapters.core.ProvisionResult;
+import com.yourco.compute.adapters.core.UsageReport;
+import com.yourco.compute.domain.model.Job;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every call to the wrapped adapter as {@code compute.provider.calls{provider,operation,outcome}}
+ * and feeds the outcome into the provider's {@link ProviderStats} (latency from provision calls only).
+ */
+public class InstrumentedProviderClient implements ProviderClient {
+  private final String provider;
+  private final ProviderClient delegate;
+  private final MeterRegistry meters;
+  private final ProviderStats stats;
+
+  public InstrumentedProviderClient(String provider, ProviderClient delegate, MeterRegistry meters, ProviderHealth health){
+    this.provider = provider;
+    this.delegate = delegate;
+    this.meters = meters;
+    this.stats = health.of(provider);
+  }
+
+  /** The delegate's name: it is the key providers are routed by, not this wrapper's class name. */
+  @Override public String name() { return provider; }
+  @Override public ProvisionResult provision(Job job) { return call("provision", () -> delegate.provision(job)); }
+  @Override public void start(String instanceId) { call("start", () -> { delegate.start(instanceId); return null; }); }
+  @Override public void stop(String instanceId) { call("stop", () -> { delegate.stop(instanceId); return null; }); }
+  @Override public UsageReport collectUsage(String instanceId) { return call("usage", () -> delegate.collectUsage(instanceId)); }
+
+  private <T> T call(String operation, Supplier<T> body){
+    long t0 = System.nanoTime();
+    String outcome = "error";
+    try {
+      T result = body.get();
+      outcome = "success";
+      return result;
+    } finally {
+      long elapsed = System.nanoTime() - t0;
+      meters.timer("compute.provider.calls", "provider", provider, "operation", operation, "outcome", outcome)
+        .record(elapsed, TimeUnit.NANOSECONDS);
+      // provision is what selection waits on; other operations have their own latency profile
+      if ("provision".equals(operation)) stats.record(elapsed, "success".equals(outcome));
+      else stats.recordOutcome("success".equals(outcome));
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.yourco.compute.orchestrator.provider;
+
+import com.yourco.compute.orchestrator.selector.SelectionPolicy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live per-provider {@link ProviderStats}, fed by {@link InstrumentedProviderClient} on every call.
+ * Selection swaps the quoted latency/reliability for observed p95 and success rate and skips
+ * providers in their post-failure cooldown while a healthy alternative exists.
+ */
+@Component
+public class ProviderHealth {
+  private final ConcurrentHashMap<String, ProviderStats> stats = new ConcurrentHashMap<>();
+  private final MeterRegistry meters;
+
+  public ProviderHealth(MeterRegistry meters){ this.meters = meters; }
+
+  public ProviderStats of(String provider){
+    return stats.computeIfAbsent(provider, this::register);
+  }
+
+  public SelectionPolicy.Quote observed(SelectionPolicy.Quote quoted){
+    ProviderStats s = stats.get(quoted.provider());
+    if (s == null) return quoted;
+    return new SelectionPolicy.Quote(quoted.provider(), quoted.estCost(),
+      s.p95LatencyOr(quoted.latencyMs()), s.successRateOr(quoted.reliability()));
+  }
+
+  /** Drops degraded providers unless that would leave nothing to choose from. */
+  public List<SelectionPolicy.Quote> preferHealthy(List<SelectionPolicy.Quote> quotes){
+    List<SelectionPolicy.Quote> healthy = quotes.stream()
+      .filter(q -> { ProviderStats s = stats.get(q.provider()); return s == null || !s.isDegraded(); })
+      .toList();
+    return healthy.isEmpty() ? quotes : healthy;
+  }
+
+  private ProviderStats register(String provider){
+    ProviderStats s = new ProviderStats();
+    Gauge.builder("compute.provider.latency.p95", s, ProviderStats::p95LatencyMs)
+      .tag("provider", provider).baseUnit("milliseconds").register(meters);
+    Gauge.builder("compute.provider.success.rate", s, ProviderStats::successRate)
+      .tag("provider", provider).register(meters);
+    Gauge.builder("compute.provider.degraded", s, v -> v.isDegraded() ? 1 : 0)
+      .tag("provider", provider).register(meters);
+    return s;
+  }
+}
@@ -0,0 +1,92 @@
+package com.yourco.compute.orchestrator.provider;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Lock-free running view of one provider's behaviour. Provision latency keeps an exponentially weighted mean
+ * plus a streaming p95 estimate (the estimate steps up by 0.95 and down by 0.05 of a step sized
+ * to the mean, so it settles where 5% of samples exceed it). Success rate is an EWMA of call outcomes.
+ * Readers blend these back towards a prior as they age, so a provider that stops receiving traffic
+ * eventually gets a fresh chance.
+ */
+public final class ProviderStats {
+  static final double ALPHA = 0.2;
+  static final double P95_STEP = 0.1;
+  static final int FAILURE_STREAK = 3;
+  static final double MIN_SUCCESS_RATE = 0.6;
+  static final long COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(15);
+  static final double STALENESS_TAU_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+  private final AtomicLong meanLatencyMs = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+  private final AtomicLong p95LatencyMs = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+  private final AtomicLong successRate = new AtomicLong(Double.doubleToRawLongBits(1.0));
+  private final AtomicInteger failureStreak = new AtomicInteger();
+  // nanoTime values are only comparable by difference, so both start at "now" rather than a sentinel
+  private final AtomicLong degradedUntil = new AtomicLong(System.nanoTime());
+  private final AtomicLong lastSampleAt = new AtomicLong(System.nanoTime());
+  private final AtomicLong samples = new AtomicLong();
+
+  /**
+   * One timed call. Latency is only learned from successful calls; a fast rejection says nothing about
+   * how long a real placement takes, and counting it would make a failing provider look quick.
+   */
+  public void record(long latencyNanos, boolean success){
+    if (success) {
+      lastSampleAt.set(System.nanoTime());
+      double ms = latencyNanos / 1e6;
+      update(meanLatencyMs, m -> Double.isNaN(m) ? ms : m + ALPHA * (ms - m));
+      double step = P95_STEP * Math.max(1.0, meanLatencyMs());
+      update(p95LatencyMs, q -> Double.isNaN(q) ? ms : ms > q ? q + 0.95 * step : Math.max(0.0, q - 0.05 * step));
+    }
+    recordOutcome(success);
+  }
+
+  /** A call whose latency is not comparable to placement (start, stop, usage): feeds the success rate only. */
+  public void recordOutcome(boolean success){
+    long now = System.nanoTime();
+    double rate = update(successRate, r -> r + ALPHA * ((success ? 1.0 : 0.0) - r));
+    if (success) {
+      failureStreak.set(0);
+    } else if (failureStreak.incrementAndGet() >= FAILURE_STREAK || rate < MIN_SUCCESS_RATE) {
+      degradedUntil.accumulateAndGet(now + COOLDOWN_NANOS, Math::max);
+    }
+    lastSampleAt.set(now);
+    samples.incrementAndGet();
+  }
+
+  public boolean isDegraded(){
+    return System.nanoTime() - degradedUntil.get() < 0;
+  }
+
+  public double p95LatencyOr(double prior){
+    return blend(Double.longBitsToDouble(p95LatencyMs.get()), prior);
+  }
+
+  public double successRateOr(double prior){
+    return samples.get() == 0 ? prior : blend(Double.longBitsToDouble(successRate.get()), prior);
+  }
+
+  public long samples(){ return samples.get(); }
+
+  double meanLatencyMs(){ return Double.longBitsToDouble(meanLatencyMs.get()); }
+  double p95LatencyMs(){ return Double.longBitsToDouble(p95LatencyMs.get()); }
+  double successRate(){ return Double.longBitsToDouble(successRate.get()); }
+
+  private double blend(double observed, double prior){
+    if (Double.isNaN(observed)) return prior;
+    double age = Math.max(0, System.nanoTime() - lastSampleAt.get());
+    double weight = Math.exp(-age / STALENESS_TAU_NANOS);
+    return weight * observed + (1 - weight) * prior;
+  }
+
+  private static double update(AtomicLong cell, DoubleUnaryOperator fn){
+    while (true) {
+      long prev = cell.get();
+      double next = fn.applyAsDouble(Double.longBitsToDouble(prev));
+      if (cell.compareAndSet(prev, Double.doubleToRawLongBits(next))) return next;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.yourco.compute.orchestrator.quotes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.compute.domain.model.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Immutable region x GPU type -> quotes index built from the {@code providers} table. Each slot holds
+ * its quotes sorted by hourly price next to a parallel {@code double[]} of prices, so lookups are two
+ * map reads and a price cap is a binary search; nothing is parsed or allocated per request.
+ */
+public final class PriceIndex {
+  private static final Logger log = LoggerFactory.getLogger(PriceIndex.class);
+  static final PriceIndex EMPTY = new PriceIndex(Map.of(), 0);
+  static final double DEFAULT_LATENCY_MS = 1000;
+  static final double DEFAULT_RELIABILITY = 0.95;
+
+  private record Slot(double[] prices, List<QuoteService.Quote> quotes) {}
+
+  private final Map<String, Map<String, Slot>> slots;
+  private final int size;
+
+  private PriceIndex(Map<String, Map<String, Slot>> slots, int size){
+    this.slots = slots;
+    this.size = size;
+  }
+
+  /** Cheapest first. */
+  public List<QuoteService.Quote> quotes(String region, String gpuType){
+    Slot s = slot(region, gpuType);
+    return s == null ? List.of() : s.quotes();
+  }
+
+  /** Cheapest first, only those at or under {@code maxPerHour}. */
+  public List<QuoteService.Quote> quotesUpTo(String region, String gpuType, double maxPerHour){
+    Slot s = slot(region, gpuType);
+    if (s == null) return List.of();
+    int lo = 0, hi = s.prices().length;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (s.prices()[mid] <= maxPerHour) lo = mid + 1; else hi = mid;
+    }
+    return s.quotes().subList(0, lo);
+  }
+
+  public int size(){ return size; }
+
+  private Slot slot(String region, String gpuType){
+    Map<String, Slot> byGpu = slots.get(region);
+    return byGpu == null ? null : byGpu.get(gpuType);
+  }
+
+  /** Skips providers that are not ACTIVE or whose JSON does not parse. */
+  public static PriceIndex build(Collection<Provider> providers, ObjectMapper json){
+    Map<String, Map<String, List<QuoteService.Quote>>> grouped = new HashMap<>();
+    for (Provider p : providers) {
+      if (p.getStatus() != null && !"ACTIVE".equalsIgnoreCase(p.getStatus())) continue;
+      if (p.getName() == null || p.getRegion() == null || p.getPricingJson() == null) continue;
+      try {
+        JsonNode pricing = json.readTree(p.getPricingJson());
+        JsonNode metrics = p.getMetricsJson() == null ? json.missingNode() : json.readTree(p.getMetricsJson());
+        double latency = metrics.path("latencyMs").asDouble(DEFAULT_LATENCY_MS);
+        double reliability = metrics.path("reliability").asDouble(DEFAULT_RELIABILITY);
+        pricing.fields().forEachRemaining(e -> {
+          if (!e.getValue().isNumber()) return;
+          grouped.computeIfAbsent(p.getRegion(), r -> new HashMap<>())
+            .computeIfAbsent(e.getKey(), g -> new ArrayList<>())
+            .add(new QuoteService.Quote(p.getId(), p.getName(), p.getRegion(), e.getKey(),
+                                        e.getValue().asDouble(), latency, reliability));
+        });
+      } catch (Exception e) {
+        log.warn("Skipping provider {} ({}): unreadable pricing/metrics JSON: {}", p.getId(), p.getName(), e.getMessage());
+      }
+    }
+
+    Map<String, Map<String, Slot>> slots = new HashMap<>();
+    int size = 0;
+    for (var region : grouped.entrySet()) {
+      Map<String, Slot> byGpu = new HashMap<>();
+      for (var gpu : region.getValue().entrySet()) {
+        List<QuoteService.Quote> quotes = new ArrayList<>(gpu.getValue());
+        quotes.sort(Comparator.comparingDouble(QuoteService.Quote::onDemandPerHour));
+        double[] prices = quotes.stream().mapToDouble(QuoteService.Quote::onDemandPerHour).toArray();
+        byGpu.put(gpu.getKey(), new Slot(prices, List.copyOf(quotes)));
+        size += quotes.size();
+      }
+      slots.put(region.getKey(), Map.copyOf(byGpu));
+    }
+    return new PriceIndex(Map.copyOf(slots), size);
+  }
+}
@@ -0,0 +1,53 @@
+package com.yourco.compute.orchestrator.quotes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.compute.domain.model.Provider;
+import com.yourco.compute.domain.repo.ProviderRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link PriceIndex}. The scheduler thread checks a cheap fingerprint of the
+ * {@code providers} table (row count + latest {@code updated_at}) and, when it moves, parses the rows
+ * into a new index and swaps it in; request threads only ever do a volatile read.
+ * Writers to {@code providers} must bump {@code updated_at} for edits to be picked up.
+ */
+@Component
+public class ProviderCatalog {
+  private static final Logger log = LoggerFactory.getLogger(ProviderCatalog.class);
+
+  private final ProviderRepository providers;
+  private final ObjectMapper json = new ObjectMapper();
+  private final AtomicReference<PriceIndex> index = new AtomicReference<>(PriceIndex.EMPTY);
+  private final Timer rebuildTimer;
+  private String fingerprint = "";
+
+  public ProviderCatalog(ProviderRepository providers, MeterRegistry meters){
+    this.providers = providers;
+    this.rebuildTimer = meters.timer("compute.catalog.rebuild");
+    Gauge.builder("compute.catalog.entries", index, r -> r.get().size()).register(meters);
+  }
+
+  public PriceIndex index(){ return index.get(); }
+
+  @PostConstruct
+  void load(){ refresh(); }
+
+  @Scheduled(fixedDelayString = "${compute.catalog.refresh-ms:10000}")
+  public synchronized void refresh(){
+    String fp = providers.count() + "@" + providers.findTopByOrderByUpdatedAtDesc().map(Provider::getUpdatedAt).orElse(null);
+    if (fp.equals(fingerprint)) return;
+    PriceIndex next = rebuildTimer.record(() -> PriceIndex.build(providers.findAll(), json));
+    index.set(next);
+    fingerprint = fp;
+    log.info("Provider catalog rebuilt: {} quotes", next.size());
+  }
+}
@@ -3,31 +3,72 @@ package com.yourco.compute.orchestrator.reconcile;
 import com.yourco.compute.domain.model.Job;
 import com.yourco.compute.domain.model.JobStatus;
 import com.yourco.compute.domain.repo.JobRepository;
+import com.yourco.compute.orchestrator.cluster.ShardCoordinator;
+import com.yourco.compute.orchestrator.dispatch.DispatchProperties;
+import com.yourco.compute.orchestrator.dispatch.FairShareDispatcher;
+import com.yourco.compute.orchestrator.service.JobOrchestrator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.Instant;
-import java.time.Duration;
 import java.util.List;
 
+/**
+ * Re-offers QUEUED jobs in this node's shards to the dispatcher once they have waited longer than
+ * {@code compute.dispatch.requeue-after}: covers enqueues lost to a crash between commit and
+ * after-commit, and jobs submitted through another replica that died before dispatching them.
+ * PROVISIONING claims older than {@code compute.dispatch.claim-timeout} are released back to QUEUED
+ * (or FAILED at {@code max-attempts}) first, so a placement cut short by a crash is retried too.
+ */
 @Component
 public class Reconciler {
+  static final String WORKLOAD = "reconciler";
   private final JobRepository jobs;
+  private final ShardCoordinator shards;
+  private final FairShareDispatcher dispatcher;
+  private final JobOrchestrator orchestrator;
+  private final DispatchProperties props;
+  private final Timer sweepTimer;
+  private final Counter scanned;
+  private final Counter requeued;
+  private final Counter released;
 
-  public Reconciler(JobRepository jobs){ this.jobs = jobs; }
+  public Reconciler(JobRepository jobs, ShardCoordinator shards, FairShareDispatcher dispatcher,
+                    JobOrchestrator orchestrator, DispatchProperties props, MeterRegistry meters){
+    this.jobs = jobs;
+    this.shards = shards;
+    this.dispatcher = dispatcher;
+    this.orchestrator = orchestrator;
+    this.props = props;
+    shards.register(WORKLOAD);
+    this.sweepTimer = meters.timer("compute.reconciler.sweep");
+    this.scanned = meters.counter("compute.reconciler.jobs", "result", "scanned");
+    this.requeued = meters.counter("compute.reconciler.jobs", "result", "requeued");
+    this.released = meters.counter("compute.reconciler.jobs", "result", "released");
+  }
 
+  /** Not transactional: each stale claim is released under its own row lock. */
   @Scheduled(fixedDelay = 30000)
-  @Transactional
   public void sweep() {
-    Instant cutoff = Instant.now().minus(Duration.ofMinutes(5));
-    List<Job> stuck = jobs.findByStatus(JobStatus.QUEUED);
-    for (Job j : stuck) {
-      if (j.getCreatedAt() != null && j.getCreatedAt().isBefore(cutoff)) {
-        j.setStatus(JobStatus.RUNNING);
-        j.setStartedAt(Instant.now());
-        jobs.save(j);
+    List<Integer> owned = shards.ownedShards(WORKLOAD);
+    if (owned.isEmpty()) return;
+    sweepTimer.record(() -> {
+      Instant claimCutoff = Instant.now().minus(props.claimTimeout());
+      for (Job j : jobs.findClaimedBeforeInShards(claimCutoff, shards.shardCount(), owned)) {
+        if (orchestrator.releaseStaleClaim(j.getId(), claimCutoff) != null) released.increment();
+      }
+      Instant cutoff = Instant.now().minus(props.requeueAfter());
+      List<Job> stuck = jobs.findByStatusInShards(JobStatus.QUEUED, shards.shardCount(), owned);
+      scanned.increment(stuck.size());
+      for (Job j : stuck) {
+        if (j.getCreatedAt() != null && j.getCreatedAt().isBefore(cutoff)
+            && dispatcher.enqueue(j.getId(), j.getUserId())) {
+          requeued.increment();
+        }
       }
-    }
+    });
   }
 }
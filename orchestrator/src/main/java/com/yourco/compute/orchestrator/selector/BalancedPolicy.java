@@ -4,11 +4,18 @@ import java.util.Comparator;
 import java.util.List;
 
 public class BalancedPolicy implements SelectionPolicy {
+  static final double MIN_RELIABILITY = 0.05;
+
   @Override
   public Quote pick(List<Quote> qs) {
     return qs.stream().min(Comparator.comparingDouble(this::score)).orElseThrow();
   }
+  /**
+   * Cost and latency per successful placement: a provider that succeeds with probability r needs 1/r
+   * attempts on average, so 70% reliability weighs like a 40% higher price and latency.
+   */
   private double score(Quote q){
-    return 0.5*q.estCost() + 0.25*q.latencyMs()/100.0 + 0.2*(1.0 - q.reliability()) + 0.05*0.0;
+    double perAttempt = 0.5*q.estCost() + 0.25*q.latencyMs()/100.0;
+    return perAttempt / Math.max(q.reliability(), MIN_RELIABILITY);
   }
 }
@@ -1,91 +1,292 @@
 package com.yourco.compute.orchestrator.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yourco.compute.adapters.core.ProviderClient;
 import com.yourco.compute.adapters.core.ProvisionResult;
 import com.yourco.compute.billing.ledger.LedgerService;
 import com.yourco.compute.domain.model.OutboxEvent;
 import com.yourco.compute.domain.repo.OutboxEventRepository;
+import com.yourco.compute.orchestrator.dispatch.DispatchProperties;
+import com.yourco.compute.orchestrator.dispatch.FairShareDispatcher;
+import com.yourco.compute.orchestrator.provider.InstrumentedProviderClient;
+import com.yourco.compute.orchestrator.provider.ProviderHealth;
 import com.yourco.compute.orchestrator.quotes.QuoteService;
 import com.yourco.compute.domain.model.Job;
 import com.yourco.compute.domain.model.JobStatus;
 import com.yourco.compute.domain.repo.JobRepository;
 import com.yourco.compute.orchestrator.selector.BalancedPolicy;
 import com.yourco.compute.orchestrator.selector.SelectionPolicy;
+import com.yourco.compute.shared.events.DomainEvents;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class JobOrchestrator {
+  private static final Logger log = LoggerFactory.getLogger(JobOrchestrator.class);
+  static final String DEFAULT_REGION = "us-east-1";
+  static final String DEFAULT_GPU_TYPE = "A100-80G";
+  private static final ObjectMapper JSON = new ObjectMapper();
+
   private final JobRepository jobs;
   private final LedgerService ledger;
   private final Map<String, ProviderClient> providers;
   private final SelectionPolicy policy = new BalancedPolicy();
   private final OutboxEventRepository outbox;
   private final QuoteService quotes;
+  private final MeterRegistry meters;
+  private final ProviderHealth health;
+  private final FairShareDispatcher dispatcher;
+  private final DispatchProperties dispatchProps;
+  private final TransactionTemplate tx;
 
   public JobOrchestrator(JobRepository jobs, LedgerService ledger, List<ProviderClient> providerClients,
-                         OutboxEventRepository outbox, QuoteService quotes){
+                         OutboxEventRepository outbox, QuoteService quotes, MeterRegistry meters, ProviderHealth health,
+                         FairShareDispatcher dispatcher, DispatchProperties dispatchProps,
+                         PlatformTransactionManager txManager){
     this.jobs = jobs;
     this.ledger = ledger;
     this.outbox = outbox;
     this.quotes = quotes;
+    this.meters = meters;
+    this.health = health;
+    this.dispatcher = dispatcher;
+    this.dispatchProps = dispatchProps;
+    this.tx = new TransactionTemplate(txManager);
     this.providers = providerClients.stream()
-        .collect(Collectors.toMap(pc -> pc.getClass().getSimpleName(), pc -> pc));
+        .collect(Collectors.toMap(ProviderClient::name,
+                                  pc -> new InstrumentedProviderClient(pc.name(), pc, meters, health)));
   }
 
+  /** Persists the job as QUEUED; it is handed to the fair-share dispatcher once this transaction commits. */
   @Transactional
   public Job submit(Job job){
-    job.setStatus(JobStatus.QUEUED);
-    Job saved = jobs.save(job);
+    return meters.timer("compute.submit").record(() -> {
+      job.setStatus(JobStatus.QUEUED);
+      Job saved = jobs.save(job);
+      emit("JobSubmitted", saved.getId(), new DomainEvents.JobSubmitted(saved.getId(), saved.getUserId()));
 
-    OutboxEvent ev = new OutboxEvent();
-    ev.setEventType("JobSubmitted");
-    ev.setAggregateType("Job");
-    ev.setAggregateId(saved.getId());
-    ev.setPayload("{\"jobId\":" + saved.getId() + "}");
-    outbox.save(ev);
+      long jobId = saved.getId(), userId = saved.getUserId();
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override public void afterCommit() { dispatcher.enqueue(jobId, userId); }
+      });
+      return saved;
+    });
+  }
+
+  /**
+   * Claims a QUEUED job and places it without holding a transaction, row lock or connection across
+   * provider calls:
+   * <ol>
+   *   <li>a short transaction claims the job (QUEUED → PROVISIONING) and commits;</li>
+   *   <li>quote, select, credit hold, provision and start run outside any transaction;</li>
+   *   <li>a second transaction marks the job RUNNING, provided the claim is still this worker's.</li>
+   * </ol>
+   * If placement fails, or the Reconciler released the claim after {@code compute.dispatch.claim-timeout},
+   * whatever was done is compensated: the instance is stopped and the hold refunded. A failed attempt
+   * sends the job back to QUEUED for the Reconciler to re-offer until {@code compute.dispatch.max-attempts}
+   * is reached, then marks it FAILED.
+   * @return the job's new status, or null if it was no longer QUEUED or the claim was lost
+   */
+  public JobStatus dispatch(long jobId){
+    Job job = tx.execute(s -> jobs.claim(jobId, Instant.now()) == 0 ? null : jobs.findById(jobId).orElseThrow());
+    if (job == null) return null;
+    Timer.Sample sample = Timer.start(meters);
+    Placement p = new Placement(job);
+    JobStatus status;
+    try {
+      place(p);
+      status = stage("finalize", () -> tx.execute(s -> finish(p)));
+      if (status == null) {
+        log.warn("Claim on job {} was released while placing it, undoing the placement", jobId);
+        compensate(p);
+      }
+    } catch (RuntimeException e) {
+      log.warn("Placing job {} failed: {}", jobId, e.getMessage());
+      compensate(p);
+      status = tx.execute(s -> {
+        Job locked = lockClaim(jobId, p.claim);
+        return locked == null ? null : failAttempt(locked);
+      });
+    }
+    if (status != null) {
+      String outcome = status == JobStatus.RUNNING ? "success" : status == JobStatus.QUEUED ? "retry" : "error";
+      sample.stop(meters.timer("compute.dispatch", "outcome", outcome));
+    }
+    return status;
+  }
+
+  /**
+   * Counts a claim older than {@code claimedBefore} as a failed attempt: its worker or replica died, or is
+   * stuck, mid-placement. A worker that is merely slow finds the claim gone when it finalizes and undoes
+   * its own placement; a hold or instance left by a worker that died is not visible here.
+   * @return QUEUED or FAILED, or null if the job was finalized or re-claimed in the meantime
+   */
+  public JobStatus releaseStaleClaim(long jobId, Instant claimedBefore){
+    return tx.execute(s -> {
+      Job job = jobs.lockById(jobId).orElse(null);
+      if (job == null || job.getStatus() != JobStatus.PROVISIONING
+          || job.getClaimedAt() == null || !job.getClaimedAt().isBefore(claimedBefore)) return null;
+      log.warn("Releasing job {} claimed at {}", jobId, job.getClaimedAt());
+      return failAttempt(job);
+    });
+  }
 
-    List<QuoteService.Quote> qs = quotes.getQuotes("us-east-1", "A100-80G");
+  /**
+   * Locking read of a job still under the given claim. The attempt count is the fencing token: releasing
+   * a claim increments it, so a worker whose claim was released and re-taken never touches the new one.
+   */
+  private Job lockClaim(long jobId, int claim){
+    Job job = jobs.lockById(jobId).orElse(null);
+    if (job == null || job.getStatus() != JobStatus.PROVISIONING || job.getDispatchAttempts() != claim) return null;
+    return job;
+  }
+
+  private JobStatus failAttempt(Job job){
+    job.setDispatchAttempts(job.getDispatchAttempts() + 1);
+    if (job.getDispatchAttempts() >= dispatchProps.maxAttempts()) {
+      job.setStatus(JobStatus.FAILED);
+      job.setEndedAt(Instant.now());
+      emit("JobCompleted", job.getId(), new DomainEvents.JobCompleted(job.getId(), job.getUserId(), false));
+    } else {
+      job.setStatus(JobStatus.QUEUED);
+    }
+    jobs.save(job);
+    return job.getStatus();
+  }
+
+  /** What a placement has done so far, so that a failure undoes exactly that. */
+  private static final class Placement {
+    final Job job;
+    final int claim;
+    ProviderClient client;
+    Long providerId;
+    BigDecimal hold;
+    String instanceId;
+
+    Placement(Job job){
+      this.job = job;
+      this.claim = job.getDispatchAttempts();
+    }
+
+    /** Per attempt, so a retried ledger call is idempotent but the next attempt gets a fresh hold. */
+    UUID key(String kind){
+      return UUID.nameUUIDFromBytes((kind + ":" + job.getId() + ":" + claim).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private void place(Placement p){
+    Job job = p.job;
+    List<QuoteService.Quote> qs = stage("quote", () -> {
+      JsonNode hint = parseHint(job.getResourceHint());
+      return quotes.getQuotes(hint.path("region").asText(DEFAULT_REGION), hint.path("gpuType").asText(DEFAULT_GPU_TYPE));
+    });
+    // only providers with a client deployed in this process can be selected; quoted latency and
+    // reliability are priors that observed behaviour overrides
     List<SelectionPolicy.Quote> policyQuotes = qs.stream()
-        .map(q -> new SelectionPolicy.Quote(q.provider(), q.onDemandPerHour(), q.latencyMs(), q.reliability()))
+        .filter(q -> providers.containsKey(q.provider()))
+        .map(q -> health.observed(new SelectionPolicy.Quote(q.provider(), q.onDemandPerHour(), q.latencyMs(), q.reliability())))
         .toList();
-    SelectionPolicy.Quote choice = policy.pick(policyQuotes);
+    if (policyQuotes.isEmpty()) {
+      throw new IllegalStateException("No registered provider quoted for job " + job.getId());
+    }
+    SelectionPolicy.Quote choice = stage("select", () -> policy.pick(health.preferHealthy(policyQuotes)));
 
     BigDecimal hold = BigDecimal.valueOf(choice.estCost() * 1.2);
-    ledger.hold(UUID.randomUUID(), saved.getUserId(), hold, saved.getId());
+    stage("hold", () -> { ledger.hold(p.key("hold"), job.getUserId(), hold, job.getId()); return null; });
+    p.hold = hold;
 
-    ProviderClient client = providers.get(choice.provider());
-    if (client == null) {
-      saved.setStatus(JobStatus.FAILED);
-      jobs.save(saved);
-      throw new IllegalStateException("Provider not found: " + choice.provider());
-    }
+    p.client = providers.get(choice.provider());
+    qs.stream().filter(q -> q.provider().equals(choice.provider())).findFirst()
+        .ifPresent(q -> p.providerId = q.providerId());
+
+    ProvisionResult pr = stage("provision", () -> p.client.provision(job));
+    p.instanceId = pr.instanceId();
+    stage("start", () -> { p.client.start(pr.instanceId()); return null; });
+  }
 
-    ProvisionResult pr = client.provision(saved);
-    client.start(pr.instanceId());
+  private JobStatus finish(Placement p){
+    Job job = lockClaim(p.job.getId(), p.claim);
+    if (job == null) return null;
+    job.setStatus(JobStatus.RUNNING);
+    job.setStartedAt(Instant.now());
+    job.setProviderId(p.providerId);
+    emit("JobStarted", job.getId(), new DomainEvents.JobStarted(job.getId(), job.getUserId(),
+        p.providerId == null ? 0 : p.providerId));
+    jobs.save(job);
+    return JobStatus.RUNNING;
+  }
+
+  /** Best effort: a failure here is logged for operators rather than masking the placement failure. */
+  private void compensate(Placement p){
+    long jobId = p.job.getId();
+    if (p.instanceId != null) {
+      try {
+        p.client.stop(p.instanceId);
+      } catch (RuntimeException e) {
+        log.error("Could not stop instance {} of failed job {}: {}", p.instanceId, jobId, e.getMessage(), e);
+      }
+    }
+    if (p.hold != null) {
+      try {
+        ledger.refund(p.key("refund"), p.job.getUserId(), p.hold, jobId);
+      } catch (RuntimeException e) {
+        log.error("Could not refund hold of {} for failed job {}: {}", p.hold, jobId, e.getMessage(), e);
+      }
+    }
+  }
 
-    saved.setStatus(JobStatus.RUNNING);
-    saved.setStartedAt(Instant.now());
+  private void emit(String type, long jobId, Object event){
+    OutboxEvent ev = new OutboxEvent();
+    ev.setEventType(type);
+    ev.setAggregateType("Job");
+    ev.setAggregateId(jobId);
+    try {
+      ev.setPayload(JSON.writeValueAsString(event));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Cannot serialize " + type, e);
+    }
+    outbox.save(ev);
+  }
 
-    OutboxEvent ev2 = new OutboxEvent();
-    ev2.setEventType("JobStarted");
-    ev2.setAggregateType("Job");
-    ev2.setAggregateId(saved.getId());
-    ev2.setPayload("{\"jobId\":" + saved.getId() + "}");
-    outbox.save(ev2);
+  private static JsonNode parseHint(String resourceHint){
+    if (resourceHint == null || resourceHint.isBlank()) return JSON.missingNode();
+    try {
+      return JSON.readTree(resourceHint);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("resourceHint is not valid JSON", e);
+    }
+  }
 
-    return jobs.save(saved);
+  private <T> T stage(String name, Supplier<T> body){
+    return meters.timer("compute.dispatch.stage", "stage", name).record(body);
   }
 
   @Transactional(readOnly = true)
   public Job get(long id){
     return jobs.findById(id).orElseThrow();
   }
+
+  @Transactional(readOnly = true)
+  public List<Job> listForUser(long userId){
+    return jobs.findTop50ByUserIdOrderByCreatedAtDesc(userId);
+  }
 }
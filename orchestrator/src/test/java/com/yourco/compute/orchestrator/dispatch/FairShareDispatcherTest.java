@@ -0,0 +1,150 @@
+package com.yourco.compute.orchestrator.dispatch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FairShareDispatcherTest {
+
+  private static FairShareDispatcher dispatcher(Map<Long, Double> weights, int defaultMaxRunning, Map<Long, Integer> maxRunning){
+    return new FairShareDispatcher(
+      new DispatchProperties(1, 1.0, defaultMaxRunning, weights, maxRunning, Duration.ofMinutes(1), 3, Duration.ofMinutes(10)),
+      new SimpleMeterRegistry());
+  }
+
+  /** Polls {@code n} jobs, ending each dispatch without starting it, and counts them per tenant. */
+  private static Map<Long, Integer> drain(FairShareDispatcher d, int n){
+    Map<Long, Integer> served = new HashMap<>();
+    for (int i = 0; i < n; i++) {
+      FairShareDispatcher.Dispatch next = d.poll();
+      assertNotNull(next, "poll " + i);
+      served.merge(next.userId(), 1, Integer::sum);
+      d.dispatched(next, false);
+    }
+    return served;
+  }
+
+  @Test
+  void backloggedTenantsAreServedInProportionToWeight(){
+    FairShareDispatcher d = dispatcher(Map.of(1L, 3.0), 0, Map.of());
+    for (long j = 0; j < 100; j++) {
+      d.enqueue(j, 1L);
+      d.enqueue(1000 + j, 2L);
+    }
+    Map<Long, Integer> served = drain(d, 40);
+    assertEquals(30, served.get(1L), 1);
+    assertEquals(10, served.get(2L), 1);
+  }
+
+  @Test
+  void tenantJobsLeaveInFifoOrder(){
+    FairShareDispatcher d = dispatcher(Map.of(), 0, Map.of());
+    for (long j = 1; j <= 5; j++) d.enqueue(j, 1L);
+    for (long j = 1; j <= 5; j++) assertEquals(j, d.poll().jobId());
+    assertNull(d.poll());
+  }
+
+  @Test
+  void tenantJoiningLateStartsAtCurrentVirtualTime(){
+    FairShareDispatcher d = dispatcher(Map.of(), 0, Map.of());
+    for (long j = 0; j < 20; j++) d.enqueue(j, 1L);
+    drain(d, 10);
+
+    for (long j = 0; j < 20; j++) d.enqueue(100 + j, 2L);
+    Map<Long, Integer> served = drain(d, 10);
+    // no catch-up burst for the newcomer, and no credit for tenant 1's earlier solo run either
+    assertEquals(5, served.get(2L), 1);
+    assertEquals(5, served.get(1L), 1);
+  }
+
+  @Test
+  void duplicateEnqueueIsIgnored(){
+    FairShareDispatcher d = dispatcher(Map.of(), 0, Map.of());
+    assertTrue(d.enqueue(1L, 1L));
+    assertFalse(d.enqueue(1L, 1L));
+    FairShareDispatcher.Dispatch taken = d.poll();
+    assertNotNull(taken);
+    assertNull(d.poll());
+    assertFalse(d.enqueue(1L, 1L), "a job being dispatched is not handed out twice");
+    d.dispatched(taken, false);
+    assertTrue(d.enqueue(1L, 1L), "a job whose dispatch ended may be re-offered");
+  }
+
+  @Test
+  void capHoldsInFlightAndStartedJobsUntilSyncSaysTheyEnded(){
+    FairShareDispatcher d = dispatcher(Map.of(), 0, Map.of(1L, 2));
+    for (long j = 1; j <= 3; j++) d.enqueue(j, 1L);
+
+    FairShareDispatcher.Dispatch a = d.poll();
+    FairShareDispatcher.Dispatch b = d.poll();
+    assertNotNull(a);
+    assertNotNull(b);
+    assertNull(d.poll(), "both slots are in flight");
+
+    d.dispatched(a, true);
+    d.dispatched(b, true);
+    assertNull(d.poll(), "both jobs are running");
+
+    d.syncRunning(Map.of(1L, 1));
+    assertEquals(3L, d.poll().jobId());
+  }
+
+  @Test
+  void dispatchThatDidNotStartFreesItsSlot(){
+    FairShareDispatcher d = dispatcher(Map.of(), 1, Map.of());
+    d.enqueue(1L, 1L);
+    d.enqueue(2L, 1L);
+    FairShareDispatcher.Dispatch first = d.poll();
+    assertNotNull(first);
+    assertNull(d.poll());
+    d.dispatched(first, false);
+    assertEquals(2L, d.poll().jobId());
+  }
+
+  @Test
+  void syncedRunningCountsApplyToTenantsThatAppearLater(){
+    FairShareDispatcher d = dispatcher(Map.of(), 1, Map.of());
+    assertTrue(d.capped());
+    d.syncRunning(Map.of(7L, 1));
+    d.enqueue(1L, 7L);
+    assertNull(d.poll());
+    d.syncRunning(Map.of());
+    assertEquals(1L, d.poll().jobId());
+  }
+
+  @Test
+  void cappedTenantDoesNotBlockOthers(){
+    FairShareDispatcher d = dispatcher(Map.of(), 0, Map.of(1L, 1));
+    d.enqueue(1L, 1L);
+    d.enqueue(2L, 1L);
+    d.enqueue(3L, 2L);
+    d.enqueue(4L, 2L);
+    Map<Long, Integer> served = new HashMap<>();
+    FairShareDispatcher.Dispatch next;
+    while ((next = d.poll()) != null) served.merge(next.userId(), 1, Integer::sum);
+    assertEquals(Map.of(1L, 1, 2L, 2), served);
+  }
+
+  @Test
+  void takeWakesWhenWorkArrives() throws Exception {
+    FairShareDispatcher d = dispatcher(Map.of(), 0, Map.of());
+    CompletableFuture<FairShareDispatcher.Dispatch> taken = CompletableFuture.supplyAsync(() -> {
+      try {
+        return d.take();
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    Thread.sleep(50);
+    assertFalse(taken.isDone());
+    d.enqueue(42L, 1L);
+    assertEquals(42L, taken.get(5, TimeUnit.SECONDS).jobId());
+  }
+}
@@ -0,0 +1,58 @@
+package com.yourco.compute.orchestrator.provider;
+
+import com.yourco.compute.orchestrator.selector.BalancedPolicy;
+import com.yourco.compute.orchestrator.selector.SelectionPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProviderHealthTest {
+  private static final long MS = 1_000_000L;
+
+  private final ProviderHealth health = new ProviderHealth(new SimpleMeterRegistry());
+  private final SelectionPolicy policy = new BalancedPolicy();
+  // identical priors: only observed behaviour can separate them
+  private final List<SelectionPolicy.Quote> quoted = List.of(
+    new SelectionPolicy.Quote("a", 0.5, 700, 0.98),
+    new SelectionPolicy.Quote("b", 0.5, 700, 0.98));
+
+  private String pick(){
+    List<SelectionPolicy.Quote> observed = quoted.stream().map(health::observed).toList();
+    return policy.pick(health.preferHealthy(observed)).provider();
+  }
+
+  @Test
+  void selectionMovesOffSlowProvider(){
+    assertEquals("a", pick());
+    ProviderStats a = health.of("a");
+    for (int i = 0; i < 30; i++) a.record(3_000 * MS, true);
+    assertFalse(a.isDegraded());
+    assertEquals("b", pick());
+  }
+
+  @Test
+  void selectionMovesOffUnreliableProviderBeforeCooldown(){
+    ProviderStats a = health.of("a");
+    ProviderStats b = health.of("b");
+    // a: one failure in four, never three in a row, success rate stays above the cooldown threshold
+    for (int i = 0; i < 40; i++) {
+      boolean ok = i % 4 != 3;
+      a.record(700 * MS, ok);
+      b.record(700 * MS, true);
+    }
+    assertFalse(a.isDegraded());
+    assertTrue(a.successRateOr(1.0) < 0.9);
+    assertEquals("b", pick());
+  }
+
+  @Test
+  void degradedProviderIsSkippedWhileAnAlternativeIsHealthy(){
+    ProviderStats a = health.of("a");
+    for (int i = 0; i < ProviderStats.FAILURE_STREAK; i++) a.record(50 * MS, false);
+    assertTrue(a.isDegraded());
+    assertEquals("b", pick());
+  }
+}
@@ -0,0 +1,46 @@
+package com.yourco.compute.orchestrator.provider;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProviderStatsTest {
+
+  @Test
+  void freshStatsAreNotDegraded(){
+    ProviderStats stats = new ProviderStats();
+    assertFalse(stats.isDegraded());
+    assertEquals(700.0, stats.p95LatencyOr(700.0));
+    assertEquals(0.97, stats.successRateOr(0.97));
+  }
+
+  @Test
+  void successfulCallsKeepProviderHealthy(){
+    ProviderStats stats = new ProviderStats();
+    for (int i = 0; i < 20; i++) stats.record(50_000_000L, true);
+    assertFalse(stats.isDegraded());
+    double p95 = stats.p95LatencyOr(1_000.0);
+    assertFalse(Double.isNaN(p95));
+    assertTrue(p95 < 100.0, "p95 " + p95);
+  }
+
+  @Test
+  void failureStreakStartsCooldown(){
+    ProviderStats stats = new ProviderStats();
+    stats.record(50_000_000L, true);
+    for (int i = 0; i < ProviderStats.FAILURE_STREAK; i++) stats.record(50_000_000L, false);
+    assertTrue(stats.isDegraded());
+  }
+
+  @Test
+  void failedCallsDoNotMakeProviderLookFaster(){
+    ProviderStats stats = new ProviderStats();
+    for (int i = 0; i < 10; i++) stats.record(2_000_000_000L, true);
+    double before = stats.p95LatencyOr(0);
+    stats.record(5_000_000L, false);
+    stats.record(5_000_000L, true);
+    stats.record(5_000_000L, false);
+    assertEquals(before, stats.p95LatencyOr(0), before * 0.15);
+    assertTrue(stats.successRateOr(1.0) < 1.0);
+  }
+}
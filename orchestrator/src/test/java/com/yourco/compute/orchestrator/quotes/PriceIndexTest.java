@@ -0,0 +1,91 @@
+package com.yourco.compute.orchestrator.quotes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.compute.domain.model.Provider;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceIndexTest {
+  private final ObjectMapper json = new ObjectMapper();
+
+  private static Provider provider(String name, String status, String pricing, String metrics){
+    Provider p = new Provider();
+    p.setName(name);
+    p.setRegion("us-east-1");
+    p.setStatus(status);
+    p.setPricingJson(pricing);
+    p.setMetricsJson(metrics);
+    return p;
+  }
+
+  private static List<String> names(List<QuoteService.Quote> quotes){
+    return quotes.stream().map(QuoteService.Quote::provider).toList();
+  }
+
+  private PriceIndex index(){
+    return PriceIndex.build(List.of(
+      provider("mid", "ACTIVE", "{\"A100-80G\": 0.60}", "{\"latencyMs\": 500, \"reliability\": 0.99}"),
+      provider("cheap", "ACTIVE", "{\"A100-80G\": 0.40, \"H100-80G\": 1.10}", null),
+      provider("dear", "ACTIVE", "{\"A100-80G\": 0.90}", null),
+      provider("tie", "ACTIVE", "{\"A100-80G\": 0.60}", null)
+    ), json);
+  }
+
+  @Test
+  void quotesAreSortedCheapestFirst(){
+    List<QuoteService.Quote> qs = index().quotes("us-east-1", "A100-80G");
+    assertEquals(4, qs.size());
+    assertEquals("cheap", qs.get(0).provider());
+    assertEquals("dear", qs.get(3).provider());
+    for (int i = 1; i < qs.size(); i++) assertTrue(qs.get(i - 1).onDemandPerHour() <= qs.get(i).onDemandPerHour());
+  }
+
+  @Test
+  void priceCapIsInclusiveAndKeepsEqualPrices(){
+    PriceIndex index = index();
+    assertEquals(List.of(), index.quotesUpTo("us-east-1", "A100-80G", 0.39));
+    assertEquals(List.of("cheap"), names(index.quotesUpTo("us-east-1", "A100-80G", 0.40)));
+    List<String> upToMid = names(index.quotesUpTo("us-east-1", "A100-80G", 0.60));
+    assertEquals(3, upToMid.size());
+    assertTrue(upToMid.containsAll(List.of("cheap", "mid", "tie")));
+    assertEquals(4, index.quotesUpTo("us-east-1", "A100-80G", 100).size());
+  }
+
+  @Test
+  void unknownRegionOrGpuIsEmpty(){
+    PriceIndex index = index();
+    assertEquals(List.of(), index.quotes("eu-west-1", "A100-80G"));
+    assertEquals(List.of(), index.quotes("us-east-1", "B200"));
+    assertEquals(List.of(), index.quotesUpTo("us-east-1", "B200", 10));
+    assertEquals(5, index.size());
+  }
+
+  @Test
+  void metricsFallBackToDefaults(){
+    PriceIndex index = index();
+    QuoteService.Quote mid = index.quotes("us-east-1", "A100-80G").stream()
+      .filter(q -> q.provider().equals("mid")).findFirst().orElseThrow();
+    assertEquals(500, mid.latencyMs());
+    assertEquals(0.99, mid.reliability());
+    QuoteService.Quote cheap = index.quotes("us-east-1", "A100-80G").get(0);
+    assertEquals(PriceIndex.DEFAULT_LATENCY_MS, cheap.latencyMs());
+    assertEquals(PriceIndex.DEFAULT_RELIABILITY, cheap.reliability());
+  }
+
+  @Test
+  void skipsInactiveRowsBadJsonAndNonNumericPrices(){
+    PriceIndex index = PriceIndex.build(List.of(
+      provider("off", "DISABLED", "{\"A100-80G\": 0.10}", null),
+      provider("broken", "ACTIVE", "{not json", null),
+      provider("badMetrics", "ACTIVE", "{\"A100-80G\": 0.20}", "[oops"),
+      provider("text", "ACTIVE", "{\"A100-80G\": \"cheap\", \"H100-80G\": 1.0}", null),
+      provider("ok", "ACTIVE", "{\"A100-80G\": 0.50}", null)
+    ), json);
+    assertEquals(List.of("ok"), names(index.quotes("us-east-1", "A100-80G")));
+    assertEquals(List.of("text"), names(index.quotes("us-east-1", "H100-80G")));
+    assertEquals(2, index.size());
+  }
+}
@@ -9,4 +9,6 @@ include(
   "adapters-runpod",
   "api-gateway",
   "agent-sdk",
+  "benchmarks",
+  "load-generator",
 )
@@ -4,4 +4,5 @@ dependencies {
   implementation("org.springframework.boot:spring-boot-starter")
   implementation("org.springframework.boot:spring-boot-starter-amqp")
   implementation("io.micrometer:micrometer-observation")
+  implementation("io.micrometer:micrometer-core")
 }
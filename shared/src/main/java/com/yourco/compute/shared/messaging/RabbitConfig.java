@@ -1,15 +1,68 @@
 package com.yourco.compute.shared.messaging;
 
 import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class RabbitConfig {
   public static final String EXCHANGE = "compute.events";
-  public static final String JOB_QUEUE = "compute.jobs";
+  /** Quorum queue beside the classic {@code compute.jobs} of earlier releases, whose type cannot change in place. */
+  public static final String JOB_QUEUE = "compute.jobs.v2";
+  public static final String DEAD_LETTER_EXCHANGE = "compute.events.dlx";
+  public static final String JOB_DLQ = "compute.jobs.v2.dlq";
+  public static final String JOB_EVENTS_FACTORY = "jobEventsContainerFactory";
 
   @Bean TopicExchange topicExchange() { return new TopicExchange(EXCHANGE, true, false); }
-  @Bean Queue jobQueue() { return QueueBuilder.durable(JOB_QUEUE).build(); }
-  @Bean Binding jobBinding(TopicExchange ex, Queue jobQueue) { return BindingBuilder.bind(jobQueue).to(ex).with("job.#"); }
+  @Bean Binding jobBinding(TopicExchange ex, @Qualifier("jobQueue") Queue jobQueue) { return BindingBuilder.bind(jobQueue).to(ex).with("job.#"); }
+  @Bean DirectExchange deadLetterExchange() { return new DirectExchange(DEAD_LETTER_EXCHANGE, true, false); }
+  @Bean Queue jobDeadLetterQueue() { return QueueBuilder.durable(JOB_DLQ).build(); }
+  @Bean Binding jobDeadLetterBinding(DirectExchange deadLetterExchange, @Qualifier("jobDeadLetterQueue") Queue jobDeadLetterQueue) {
+    return BindingBuilder.bind(jobDeadLetterQueue).to(deadLetterExchange).with(JOB_DLQ);
+  }
+
+  /**
+   * Quorum queue so the broker counts redeliveries: a message nacked back onto it more than
+   * {@code compute.events.delivery-limit} times is dead-lettered to {@value #JOB_DLQ} instead.
+   */
+  @Bean Queue jobQueue(@Value("${compute.events.delivery-limit:5}") int deliveryLimit) {
+    return QueueBuilder.durable(JOB_QUEUE)
+        .quorum()
+        .deliveryLimit(deliveryLimit)
+        .deadLetterExchange(DEAD_LETTER_EXCHANGE)
+        .deadLetterRoutingKey(JOB_DLQ)
+        .build();
+  }
+
+  /**
+   * Batch consumers with manual acks: each consumer gets up to {@code batch-size} messages, waiting at
+   * most {@code receive-timeout-ms} for the next one so a quiet queue is not held back, and acks the
+   * whole batch at once. Prefetch should be a few batches deep so the broker keeps every consumer busy.
+   */
+  @Bean(JOB_EVENTS_FACTORY)
+  SimpleRabbitListenerContainerFactory jobEventsContainerFactory(
+      ConnectionFactory connectionFactory,
+      @Value("${compute.events.prefetch:250}") int prefetch,
+      @Value("${compute.events.concurrency:4}") int concurrency,
+      @Value("${compute.events.max-concurrency:8}") int maxConcurrency,
+      @Value("${compute.events.batch-size:50}") int batchSize,
+      @Value("${compute.events.receive-timeout-ms:10}") long receiveTimeoutMs,
+      @Value("${compute.events.listener.auto-startup:true}") boolean autoStartup) {
+    SimpleRabbitListenerContainerFactory f = new SimpleRabbitListenerContainerFactory();
+    f.setConnectionFactory(connectionFactory);
+    f.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+    f.setPrefetchCount(prefetch);
+    f.setConcurrentConsumers(concurrency);
+    f.setMaxConcurrentConsumers(maxConcurrency);
+    f.setBatchListener(true);
+    f.setConsumerBatchEnabled(true);
+    f.setBatchSize(batchSize);
+    f.setReceiveTimeout(receiveTimeoutMs);
+    f.setAutoStartup(autoStartup);
+    return f;
+  }
 }
@@ -0,0 +1,20 @@
+package com.yourco.compute.shared.metrics;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Guards against tag explosion on the {@code compute.*} meters. Every other tag they carry
+ * (stage, operation, outcome, kind) comes from a fixed set in code; provider names come from
+ * deployed adapters, so they are capped rather than trusted.
+ */
+@Configuration
+public class MetricsConfig {
+  public static final int MAX_PROVIDER_TAGS = 32;
+
+  @Bean
+  MeterFilter boundedProviderTags(){
+    return MeterFilter.maximumAllowableTags("compute.provider", "provider", MAX_PROVIDER_TAGS, MeterFilter.deny());
+  }
+}